@@ -3,12 +3,17 @@ package org.example.ch3schedulerprojectreview;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
 /** @EnableJpaAuditing
  * JPA Auditing 기능 활성화
  * Auditing 리스너(@CreatedDate, @LastModifiedDate 등)를 등록하고 동작하도록 허용
  */
+@EnableScheduling
+/** @EnableScheduling
+ * @Scheduled 메서드를 주기적으로 실행 (소프트 딜리트 정리 작업 등)
+ */
 @SpringBootApplication
 public class Ch3SchedulerProjectReviewApplication {
 
@@ -0,0 +1,188 @@
+package org.example.ch3schedulerprojectreview.comment.cascade;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentStreamMessage;
+import org.example.ch3schedulerprojectreview.comment.event.CommentChangedEvent;
+import org.example.ch3schedulerprojectreview.comment.repository.CommentRepository;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Component
+/** 일정 소프트 딜리트/복구에 맞춰 댓글도 집합 단위로 삭제/복구
+ * 일정만 삭제하면 댓글 행이 살아 있어서 댓글 조회/개수가 계속 고아 댓글을 읽음
+ * - 일정 단건/일괄 삭제, 복구: 호출한 트랜잭션 안에서 댓글 UPDATE 1번 + comment_count 재계산 1번
+ *   복구는 일정 삭제로 함께 삭제된 댓글(cascade_deleted)만 되살림
+ * - 회원탈퇴: 일정 수가 많을 수 있으므로 커밋 이후 별도 스레드에서 일정 chunk-size개씩, 배치마다 짧은 트랜잭션
+ * - 주기 작업: 삭제된 일정인데 comment_count > 0 (= 아직 댓글이 남음)인 일정을 같은 방식으로 정리
+ *   -> 탈퇴 처리 중 서버가 꺼져도 다음 실행에서 마무리
+ * 댓글 스트림에는 일정 단위 이벤트(CASCADE_DELETED/RESTORED)를 일정마다 1건 발행 (댓글마다 보내지 않음)
+ * 처리한 댓글 수: /actuator/metrics/comment.cascade.deleted, comment.cascade.restored
+ */
+public class CommentCascade {
+
+    private static final String SELECT_USER_CHUNK_SQL =
+            "select schedule_id from schedule where user_id = :userId and deleted = true and comment_count > 0 " +
+            "and schedule_id > :afterId order by schedule_id limit :limit for update";
+
+    private static final String SELECT_CHUNK_SQL =
+            "select schedule_id from schedule where deleted = true and comment_count > 0 " +
+            "and schedule_id > :afterId order by schedule_id limit :limit for update";
+
+    private final CommentRepository commentRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Counter deletedCounter;
+    private final Counter restoredCounter;
+
+    public CommentCascade(
+            CommentRepository commentRepository,
+            ScheduleRepository scheduleRepository,
+            EntityManager entityManager,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${comment.cascade.chunk-size:200}") int chunkSize,
+            @Value("${comment.cascade.pause:50ms}") Duration pause
+    ) {
+        this.commentRepository = commentRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "comment-cascade");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.deletedCounter = Counter.builder("comment.cascade.deleted").register(meterRegistry);
+        this.restoredCounter = Counter.builder("comment.cascade.restored").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // 삭제한 일정들의 댓글 삭제 (호출한 트랜잭션 안에서, 일정 변경 이후에 호출)
+    public void deleteWithSchedules(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        int deleted = commentRepository.cascadeDeleteBySchedules(scheduleIds, LocalDateTime.now());
+        scheduleRepository.recountComments(scheduleIds);    // 삭제된 일정 = 0 (댓글 수 캐시도 실제와 같게)
+        deletedCounter.increment(deleted);
+        publish(scheduleIds, CommentChangedEvent.Type.CASCADE_DELETED);    // 댓글이 없던 일정도 구독자 연결은 끊음
+    }
+
+    // 복구한 일정들의 댓글 복구 (호출한 트랜잭션 안에서, 일정 변경 이후에 호출)
+    public void restoreWithSchedules(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        int restored = commentRepository.cascadeRestoreBySchedules(scheduleIds, LocalDateTime.now());
+        if (restored > 0) {
+            scheduleRepository.recountComments(scheduleIds);
+            publish(scheduleIds, CommentChangedEvent.Type.CASCADE_RESTORED);
+        }
+        restoredCounter.increment(restored);
+    }
+
+    // 커밋 이후 CommentStreamHub가 구독자에게 전달 (롤백되면 보내지 않음)
+    private void publish(Collection<Long> scheduleIds, CommentChangedEvent.Type type) {
+        for (Long scheduleId : scheduleIds) {
+            eventPublisher.publishEvent(new CommentChangedEvent(CommentStreamMessage.ofSchedule(scheduleId), type));
+        }
+    }
+
+    // 회원탈퇴 커밋 이후: 탈퇴한 유저 일정의 댓글을 나눠서 삭제
+    @TransactionalEventListener(fallbackExecution = true)    // 기본 phase = AFTER_COMMIT
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.getType() == ScheduleChangedEvent.Type.USER_WITHDRAWN) {
+            Long userId = event.getUserId();
+            executor.execute(() -> sweep(userId));
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${comment.cascade.initial-delay:PT5M}",
+            fixedDelayString = "${comment.cascade.interval:PT1H}"
+    )
+    public void sweepAll() {
+        executor.execute(() -> sweep(null));    // 탈퇴 처리와 같은 스레드 -> 같은 일정을 동시에 처리하지 않음
+    }
+
+    // userId = null이면 전체 일정 대상
+    private void sweep(Long userId) {
+        long afterId = 0;
+        long deleted = 0;
+        try {
+            while (true) {
+                long fromId = afterId;
+                long[] result = transactionTemplate.execute(status -> deleteChunk(userId, fromId));    // {읽은 일정 수, 마지막 ID, 삭제한 댓글 수}
+                if (result == null || result[0] == 0) {
+                    break;
+                }
+                deleted += result[2];
+                if (result[0] < chunkSize) {
+                    break;
+                }
+                afterId = result[1];
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            log.error("댓글 일괄 삭제 실패, 다음 주기 작업에서 재시도: userId={}, afterId={}", userId, afterId, e);
+            return;
+        }
+        if (deleted > 0) {
+            log.info("삭제된 일정의 댓글 정리: userId={}, 댓글 {}개", userId, deleted);
+        }
+    }
+
+    private long[] deleteChunk(Long userId, long afterId) {
+        // 대상 일정 행을 먼저 잠금 -> 댓글 생성(일정 행 UPDATE 후 INSERT)과 잠금 순서가 같음
+        List<?> rows = (userId == null
+                ? entityManager.createNativeQuery(SELECT_CHUNK_SQL)
+                : entityManager.createNativeQuery(SELECT_USER_CHUNK_SQL).setParameter("userId", userId))
+                .setParameter("afterId", afterId)
+                .setParameter("limit", chunkSize)
+                .getResultList();
+        List<Long> ids = rows.stream().map(id -> ((Number) id).longValue()).toList();
+        if (ids.isEmpty()) {
+            return new long[]{0, afterId, 0};
+        }
+        int deleted = commentRepository.cascadeDeleteBySchedules(ids, LocalDateTime.now());
+        scheduleRepository.recountComments(ids);
+        deletedCounter.increment(deleted);
+        publish(ids, CommentChangedEvent.Type.CASCADE_DELETED);
+        return new long[]{ids.size(), ids.get(ids.size() - 1), deleted};
+    }
+}
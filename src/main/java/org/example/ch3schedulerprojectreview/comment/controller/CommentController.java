@@ -1,28 +1,47 @@
 package org.example.ch3schedulerprojectreview.comment.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentCompactPageResponse;
 import org.example.ch3schedulerprojectreview.comment.dto.CommentDeleteRequest;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentReplySliceResponse;
 import org.example.ch3schedulerprojectreview.comment.dto.CommentRequest;
 import org.example.ch3schedulerprojectreview.comment.dto.CommentResponse;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentThreadSliceResponse;
+import org.example.ch3schedulerprojectreview.comment.ingest.CommentIngestQueue;
 import org.example.ch3schedulerprojectreview.comment.service.CommentService;
+import org.example.ch3schedulerprojectreview.comment.stream.CommentStreamHub;
 import org.example.ch3schedulerprojectreview.common.constants.auth.SessionKey;
+import org.example.ch3schedulerprojectreview.common.patch.JsonMergePatcher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 //@RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
+    private final CommentIngestQueue commentIngestQueue;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(
+            CommentService commentService,
+            CommentStreamHub commentStreamHub,
+            CommentIngestQueue commentIngestQueue
+    ) {
         this.commentService = commentService;
+        this.commentStreamHub = commentStreamHub;
+        this.commentIngestQueue = commentIngestQueue;
     }
 
     // 생성
@@ -32,8 +51,21 @@ public class CommentController {
             @Valid @RequestBody CommentRequest request,
             @SessionAttribute(name = SessionKey.SESSION_KEY) Long sessionUserId
     ) {
-        CommentResponse response = commentService.save(sessionUserId, scheduleId, request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        CommentResponse response = commentIngestQueue.isEnabled()    // write-behind 모드: 배치 커밋 후 응답
+                ? commentIngestQueue.submit(sessionUserId, scheduleId, request)
+                : commentService.save(sessionUserId, scheduleId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(response.toETag()).body(response);
+    }
+
+    // 답글 생성
+    @PostMapping("/comments/{commentId}/replies")
+    public ResponseEntity<CommentResponse> saveReply(
+            @PathVariable Long commentId,
+            @Valid @RequestBody CommentRequest request,
+            @SessionAttribute(name = SessionKey.SESSION_KEY) Long sessionUserId
+    ) {
+        CommentResponse response = commentService.saveReply(sessionUserId, commentId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(response.toETag()).body(response);
     }
 
     // 유저 아이디 기준 조회
@@ -55,7 +87,7 @@ public class CommentController {
     @GetMapping("/schedules/{scheduleId}/comments")
     public ResponseEntity<Page<CommentResponse>> findAllByScheduleId(
             @PathVariable Long scheduleId,
-            @PageableDefault Pageable pageable
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable    // 정렬 미지정 시 최신순(인덱스 순서)
     ) {
         int pageNumber = pageable.getPageNumber() - 1;    // 굳이 할 필요 없음...
         if (pageNumber < 0) pageNumber = 0;
@@ -66,15 +98,85 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    // 유저 아이디 기준 조회 - compact 모드 (?view=compact)
+    @GetMapping(value = "/users/{userId}/comments", params = "view=compact")
+    public ResponseEntity<CommentCompactPageResponse> findAllByUserIdCompact(
+            @PathVariable Long userId,
+            @PageableDefault Pageable pageable
+    ) {
+        return ResponseEntity.ok(commentService.findAllByUserIdCompact(userId, toZeroBased(pageable)));
+    }
+
+    // 스케줄 아이디 기준 조회 - compact 모드 (?view=compact)
+    @GetMapping(value = "/schedules/{scheduleId}/comments", params = "view=compact")
+    public ResponseEntity<CommentCompactPageResponse> findAllByScheduleIdCompact(
+            @PathVariable Long scheduleId,
+            @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        return ResponseEntity.ok(commentService.findAllByScheduleIdCompact(scheduleId, toZeroBased(pageable)));
+    }
+
+    // 스케줄 스레드 목록: 루트 댓글 최신순 + 스레드마다 앞쪽 답글 replies개 (페이지 번호 1부터)
+    @GetMapping("/schedules/{scheduleId}/threads")
+    public ResponseEntity<CommentThreadSliceResponse> findThreads(
+            @PathVariable Long scheduleId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "3") int replies
+    ) {
+        return ResponseEntity.ok(commentService.findThreads(scheduleId, page, size, replies));
+    }
+
+    // 댓글 하위 답글 (스레드 순서). 다음 페이지는 응답의 nextCursor를 after로
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<CommentReplySliceResponse> findReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Integer depth
+    ) {
+        return ResponseEntity.ok(commentService.findReplies(commentId, after, size, depth));
+    }
+
+    // 페이지 번호는 1부터 받음 (기본 모드와 같음)
+    private Pageable toZeroBased(Pageable pageable) {
+        return PageRequest.of(Math.max(pageable.getPageNumber() - 1, 0), pageable.getPageSize(), pageable.getSort());
+    }
+
+    /** 스케줄 댓글 실시간 스트림 (SSE)
+     * 접속 시 Last-Event-ID(재접속) 또는 after(마지막으로 받은 이벤트 id, 예전 형식인 댓글 ID도 허용) 이후 밀린 댓글을 보내고,
+     * 이후 생성/수정/삭제를 계속 전달
+     */
+    @GetMapping(value = "/schedules/{scheduleId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @PathVariable Long scheduleId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(required = false) String after
+    ) {
+        return commentStreamHub.subscribe(scheduleId, lastEventId != null ? lastEventId : after);
+    }
+
     // 수정
     @PutMapping("/comments/{commentId}")
     public ResponseEntity<CommentResponse> update(
             @PathVariable Long commentId,
             @SessionAttribute(name = SessionKey.SESSION_KEY) Long sessionUserId,
-            @Valid @RequestBody CommentRequest request
+            @Valid @RequestBody CommentRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch    // 없으면 검사 안 함
     ) {
-        CommentResponse response = commentService.updateById(commentId, sessionUserId, request);
-        return ResponseEntity.ok(response);
+        CommentResponse response = commentService.updateById(commentId, sessionUserId, request, ifMatch);
+        return ResponseEntity.ok().eTag(response.toETag()).body(response);
+    }
+    // 부분 수정 (JSON Merge Patch)
+    @PatchMapping(value = "/comments/{commentId}", consumes = {JsonMergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CommentResponse> patch(
+            @PathVariable Long commentId,
+            @SessionAttribute(name = SessionKey.SESSION_KEY) Long sessionUserId,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        CommentResponse response = commentService.patchById(commentId, sessionUserId, patch, ifMatch);
+        return ResponseEntity.ok().eTag(response.toETag()).body(response);
     }
 
     // 삭제
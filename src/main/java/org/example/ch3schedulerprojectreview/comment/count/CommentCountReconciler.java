@@ -0,0 +1,107 @@
+package org.example.ch3schedulerprojectreview.comment.count;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Component
+/** schedule.comment_count 보정 (백그라운드 작업)
+ * 댓글 수는 CommentService에서 상대값 UPDATE로 맞추지만, 직접 넣은 데이터/예전 데이터/장애 등으로 어긋날 수 있음
+ * -> 일정 ID 순으로 batch-size개씩 실제 count(*)와 비교해서 다른 행만 UPDATE
+ * - 배치마다 짧은 트랜잭션 1번. 대상 일정 행을 먼저 잠금(for update) 후 ScheduleRepository.recountComments
+ *   -> 댓글 생성/삭제도 같은 일정 행을 먼저 잠그므로, 세는 동안 끼어든 댓글이 보정값에서 빠지지 않음
+ * - count는 idx_comment_schedule_created (schedule_id, deleted, ...) 인덱스만 읽음
+ * 보정한 행 수: /actuator/metrics/comment.count.repaired (0이 아니면 어딘가에서 카운터를 거치지 않은 쓰기가 있음)
+ */
+public class CommentCountReconciler {
+
+    private static final String SELECT_BATCH_SQL =
+            "select schedule_id from schedule where schedule_id > :afterId order by schedule_id limit :limit for update";
+
+    private final EntityManager entityManager;
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pause;
+    private final Counter repairedCounter;
+
+    public CommentCountReconciler(
+            EntityManager entityManager,
+            ScheduleRepository scheduleRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${comment.count-reconciler.enabled:true}") boolean enabled,
+            @Value("${comment.count-reconciler.batch-size:1000}") int batchSize,
+            @Value("${comment.count-reconciler.pause:100ms}") Duration pause
+    ) {
+        this.entityManager = entityManager;
+        this.scheduleRepository = scheduleRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.repairedCounter = Counter.builder("comment.count.repaired").register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${comment.count-reconciler.initial-delay:PT10M}",
+            fixedDelayString = "${comment.count-reconciler.interval:PT6H}"
+    )
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        long repaired = 0;
+        long afterId = 0;
+        try {
+            while (true) {
+                long fromId = afterId;
+                long[] result = transactionTemplate.execute(status -> repairBatch(fromId));    // {읽은 행 수, 마지막 ID, 보정 행 수}
+                if (result == null || result[0] == 0) {
+                    break;
+                }
+                repaired += result[2];
+                repairedCounter.increment(result[2]);
+                if (result[0] < batchSize) {
+                    break;
+                }
+                afterId = result[1];
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            log.error("댓글 수 보정 실패: afterId={}", afterId, e);
+            return;
+        }
+        if (repaired > 0) {
+            log.warn("댓글 수 보정: {}개 일정의 comment_count가 실제 댓글 수와 달라 수정함", repaired);
+        }
+    }
+
+    private long[] repairBatch(long afterId) {
+        List<?> rows = entityManager.createNativeQuery(SELECT_BATCH_SQL)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", batchSize)
+                .getResultList();
+        List<Long> ids = rows.stream().map(id -> ((Number) id).longValue()).toList();
+        if (ids.isEmpty()) {
+            return new long[]{0, afterId, 0};
+        }
+        int repaired = scheduleRepository.recountComments(ids);
+        return new long[]{ids.size(), ids.get(ids.size() - 1), repaired};
+    }
+}
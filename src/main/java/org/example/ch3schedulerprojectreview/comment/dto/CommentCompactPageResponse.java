@@ -0,0 +1,32 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Getter
+/** 댓글 목록 compact 모드 응답 (?view=compact)
+ * 기본 모드는 댓글마다 ScheduleResponse 전체(작성자 이메일, 이름, 제목, 내용 ...)를 반복
+ * -> 같은 일정 정보가 페이지 크기만큼 반복되어 직렬화/전송량 대부분을 차지
+ * compact 모드: 댓글은 scheduleId, userId만 갖고 일정/작성자는 includes에 한 번씩만
+ * 페이지 정보 필드 이름(number, size, totalElements, totalPages)은 기본 모드(Page)와 같음
+ */
+public class CommentCompactPageResponse {
+
+    private final List<CommentCompactResponse> content;
+    private final CommentIncludes includes;
+    private final int number;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+
+    public CommentCompactPageResponse(Page<CommentCompactResponse> page, CommentIncludes includes) {
+        this.content = page.getContent();
+        this.includes = includes;
+        this.number = page.getNumber();
+        this.size = page.getSize();
+        this.totalElements = page.getTotalElements();
+        this.totalPages = page.getTotalPages();
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+/** 댓글 목록 compact 모드의 댓글 1건
+ * 일정/작성자는 ID로만 가리키고 실제 내용은 CommentIncludes에 한 번씩만 넣음
+ */
+public class CommentCompactResponse {
+
+    private final Long id;
+    private final Long scheduleId;
+    private final Long userId;
+    private final String comment;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public CommentCompactResponse(
+            Long id,
+            Long scheduleId,
+            Long userId,
+            String comment,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt
+    ) {
+        this.id = id;
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.comment = comment;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
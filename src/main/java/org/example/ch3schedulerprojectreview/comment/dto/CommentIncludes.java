@@ -0,0 +1,37 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+/** 댓글 목록 compact 모드의 includes
+ * 페이지에 나온 일정/댓글 작성자를 ID별로 한 번씩만 담음 (JSON 객체 키 = ID)
+ */
+public class CommentIncludes {
+
+    private final Map<Long, ScheduleResponse> schedules = new LinkedHashMap<>();
+    private final Map<Long, UserSummary> users = new LinkedHashMap<>();
+
+    public void addSchedule(ScheduleResponse schedule) {
+        schedules.putIfAbsent(schedule.getScheduleId(), schedule);
+    }
+
+    public void addUser(Long userId, String userName) {
+        users.computeIfAbsent(userId, id -> new UserSummary(id, userName));
+    }
+
+    @Getter
+    public static class UserSummary {
+
+        private final Long userId;
+        private final String userName;
+
+        public UserSummary(Long userId, String userName) {
+            this.userId = userId;
+            this.userName = userName;
+        }
+    }
+}
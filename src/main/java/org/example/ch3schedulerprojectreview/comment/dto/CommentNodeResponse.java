@@ -0,0 +1,50 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+/** 스레드 안의 댓글 1건
+ * 일정 정보는 넣지 않음(스레드 목록은 일정 하나 기준). 트리는 parentId, depth로 복원
+ * 삭제된 댓글(살아 있는 답글이 달린 경우만 나옴)은 deleted = true, 작성자/내용 없이 자리만 표시
+ */
+public class CommentNodeResponse {
+
+    private final Long id;
+    private final Long parentId;    // 루트 댓글이면 null
+    private final int depth;    // 루트 = 0
+    private final Long userId;
+    private final String userName;
+    private final String comment;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    private final boolean deleted;
+
+    public CommentNodeResponse(
+            Long id,
+            Long parentId,
+            int depth,
+            Long userId,
+            String userName,
+            String comment,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt,
+            boolean deleted
+    ) {
+        this.id = id;
+        this.parentId = parentId;
+        this.depth = depth;
+        this.userId = userId;
+        this.userName = userName;
+        this.comment = comment;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.deleted = deleted;
+    }
+
+    // 삭제된 댓글 자리 표시: 트리 위치(id, parentId, depth)만
+    public static CommentNodeResponse tombstone(Long id, Long parentId, int depth) {
+        return new CommentNodeResponse(id, parentId, depth, null, null, null, null, null, true);
+    }
+}
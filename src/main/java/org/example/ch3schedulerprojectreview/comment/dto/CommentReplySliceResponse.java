@@ -0,0 +1,20 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+/** 댓글 하위 답글 한 페이지 (스레드 순서)
+ * 다음 페이지는 nextCursor를 after로 넘겨서 조회. 더 없으면 null
+ */
+public class CommentReplySliceResponse {
+
+    private final List<CommentNodeResponse> replies;
+    private final String nextCursor;
+
+    public CommentReplySliceResponse(List<CommentNodeResponse> replies, String nextCursor) {
+        this.replies = replies;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -3,11 +3,18 @@ package org.example.ch3schedulerprojectreview.comment.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 public class CommentRequest {
 
     @NotBlank(message = "댓글 내용은 필수 입력값입니다.")
     @Size(min = 1, max = 255, message = "내용은 최대 255자 입력 가능합니다.")
     private String comment;
+
+    // PATCH(merge patch)에서 현재 댓글 값을 요청 모양으로 만들 때 사용
+    public CommentRequest(String comment) {
+        this.comment = comment;
+    }
 }
@@ -1,6 +1,7 @@
 package org.example.ch3schedulerprojectreview.comment.dto;
 
 import lombok.Getter;
+import org.example.ch3schedulerprojectreview.common.etag.ETags;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ public class CommentResponse {
     private String comment;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    private final Long version;    // ETag 계산용. getter가 없어서 JSON에는 안 나감
 
     public CommentResponse(
             ScheduleResponse schedule,
@@ -21,7 +23,8 @@ public class CommentResponse {
             String userName,
             String comment,
             LocalDateTime createdAt,
-            LocalDateTime modifiedAt
+            LocalDateTime modifiedAt,
+            Long version
     ) {
         this.schedule = schedule;
         this.id = id;
@@ -29,6 +32,7 @@ public class CommentResponse {
         this.comment = comment;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
     }
 
     public ScheduleResponse getSchedule() {
@@ -54,4 +58,8 @@ public class CommentResponse {
     public LocalDateTime getModifiedAt() {
         return modifiedAt;
     }
+
+    public String toETag() {
+        return ETags.of(id, version);
+    }
 }
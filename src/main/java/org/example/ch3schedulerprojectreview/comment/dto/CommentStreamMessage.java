@@ -0,0 +1,48 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+/** 댓글 스트림(SSE)으로 보내는 댓글 1건
+ * CommentResponse와 달리 일정 정보를 넣지 않음(구독자는 이미 일정을 알고 있음) -> 이벤트마다 작은 JSON
+ * 삭제 이벤트는 commentId, scheduleId만 채움. 일정 단위(일정 삭제/복구) 이벤트는 scheduleId만
+ */
+public class CommentStreamMessage {
+
+    private final Long commentId;
+    private final Long scheduleId;
+    private final Long parentId;    // 답글이면 부모 댓글 ID
+    private final String userName;
+    private final String comment;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    // 생성자 파라미터 순서 = CommentRepository.findStreamBacklog의 select new 인자 순서
+    public CommentStreamMessage(
+            Long commentId,
+            Long scheduleId,
+            Long parentId,
+            String userName,
+            String comment,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt
+    ) {
+        this.commentId = commentId;
+        this.scheduleId = scheduleId;
+        this.parentId = parentId;
+        this.userName = userName;
+        this.comment = comment;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+
+    public static CommentStreamMessage deleted(Long commentId, Long scheduleId) {
+        return new CommentStreamMessage(commentId, scheduleId, null, null, null, null, null);
+    }
+
+    public static CommentStreamMessage ofSchedule(Long scheduleId) {
+        return new CommentStreamMessage(null, scheduleId, null, null, null, null, null);
+    }
+}
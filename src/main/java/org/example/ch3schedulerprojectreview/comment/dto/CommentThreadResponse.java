@@ -0,0 +1,22 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+/** 스레드 1개 = 루트 댓글 + 앞쪽 답글
+ * replies는 스레드 순서(깊이 우선, 형제끼리는 작성순). 나머지는 GET /comments/{루트 ID}/replies로 이어서 조회
+ */
+public class CommentThreadResponse {
+
+    private final CommentNodeResponse root;
+    private final List<CommentNodeResponse> replies;
+    private final boolean hasMoreReplies;
+
+    public CommentThreadResponse(CommentNodeResponse root, List<CommentNodeResponse> replies, boolean hasMoreReplies) {
+        this.root = root;
+        this.replies = replies;
+        this.hasMoreReplies = hasMoreReplies;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import java.time.LocalDateTime;
+
+/** 스레드 조회 네이티브 쿼리(CommentRepository.findThreadRows)의 행 1개
+ * getter 이름 = 쿼리의 컬럼 별칭
+ */
+public interface CommentThreadRow {
+
+    Long getId();
+
+    Long getParentId();
+
+    Integer getDepth();
+
+    Long getUserId();
+
+    String getUserName();
+
+    String getComment();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getModifiedAt();
+
+    Boolean getDeleted();
+}
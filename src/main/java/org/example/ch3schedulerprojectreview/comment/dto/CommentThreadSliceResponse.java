@@ -0,0 +1,24 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+/** 일정의 스레드 목록 (루트 댓글 최신순)
+ * 전체 개수(COUNT)는 세지 않고 다음 페이지 여부만 알려줌 (루트를 size + 1개 읽어서 판단)
+ */
+public class CommentThreadSliceResponse {
+
+    private final List<CommentThreadResponse> threads;
+    private final int number;
+    private final int size;
+    private final boolean hasNext;
+
+    public CommentThreadSliceResponse(List<CommentThreadResponse> threads, int number, int size, boolean hasNext) {
+        this.threads = threads;
+        this.number = number;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.ch3schedulerprojectreview.comment.dto;
+
+import lombok.Getter;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+
+import java.time.LocalDateTime;
+
+@Getter
+/** 댓글 생성 응답에 필요한 값 (CommentRepository.findWriteTarget 프로젝션)
+ * 일정 + 일정 작성자 + 댓글 작성자 이름을 쿼리 1번으로
+ * -> 일정/유저 엔티티(비밀번호 해시 포함)를 읽지 않고 응답 생성
+ * JPQL select new는 중첩 생성자를 못 쓰므로 평평한 인자로 받아서 ScheduleResponse를 만듦
+ */
+public class CommentWriteTarget {
+
+    private final ScheduleResponse schedule;
+    private final String userName;    // 댓글 작성자
+
+    // 생성자 파라미터 순서 = findWriteTarget의 select new 인자 순서 (앞 16개 = ScheduleResponse 생성자)
+    public CommentWriteTarget(
+            Long userId,
+            String email,
+            String scheduleUserName,
+            Long scheduleId,
+            String title,
+            String content,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt,
+            String recurrenceRule,
+            String exceptionDates,
+            Integer reminderMinutes,
+            long commentCount,
+            Long version,
+            Long userVersion,
+            String userName
+    ) {
+        this.schedule = new ScheduleResponse(
+                userId, email, scheduleUserName, scheduleId, title, content,
+                startDateTime, endDateTime, createdAt, modifiedAt,
+                recurrenceRule, exceptionDates, reminderMinutes, commentCount, version, userVersion);
+        this.userName = userName;
+    }
+}
@@ -7,16 +7,36 @@ import lombok.NoArgsConstructor;
 import org.example.ch3schedulerprojectreview.common.entity.BaseEntity;
 import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
 import org.example.ch3schedulerprojectreview.user.entity.User;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 //@Getter
 //@NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "comment")
+@DynamicUpdate    // 바뀐 컬럼만 UPDATE (Schedule 참고)
+@Table(
+        name = "comment",
+        indexes = {
+                @Index(name = "idx_comment_schedule_created", columnList = "schedule_id, deleted, created_at"),
+                @Index(name = "idx_comment_schedule_root", columnList = "schedule_id, depth, created_at"),
+                @Index(name = "uk_comment_path", columnList = "path", unique = true)
+        }
+)
+/** idx_comment_schedule_created
+ * 일정별 댓글 목록용 복합 인덱스
+ * WHERE schedule_id = ? AND NOT deleted 조건 + ORDER BY created_at 정렬, COUNT까지 인덱스만으로 처리
+ * -> 댓글이 수십만 개인 일정도 페이지 크기만큼만 읽음
+ * idx_comment_schedule_root
+ * 스레드 목록용. 일정의 루트 댓글(depth = 0)만 최신순으로
+ * deleted는 넣지 않음: 살아 있는 답글이 있는 삭제된 루트도 자리 표시(tombstone)로 같은 순서에 나와야 함
+ * uk_comment_path
+ * 답글 스레드용. 하위 트리 = path 범위 1번 (CommentPath 참고)
+ */
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
+    private Long id;    // IDENTITY는 INSERT 배치 불가 -> Schedule과 같은 pooled 시퀀스 (write-behind 모드의 multi-row INSERT)
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
@@ -29,12 +49,40 @@ public class Comment extends BaseEntity {
     @Column(length = 255, nullable = false)
     private String comment;
 
+    private Long parentId;    // 답글이면 부모 댓글 ID. null = 루트 댓글
+
+    @Column(nullable = false)
+    private int depth;    // 루트 = 0
+
+    @Column(length = CommentPath.MAX_LENGTH, nullable = false, updatable = false)
+    private String path;    // 스레드 경로 (CommentPath)
+
+    @Column(nullable = false)
+    private boolean cascadeDeleted;    // 일정 삭제로 함께 삭제됨 -> 일정 복구 시 함께 복구 (CommentCascade)
+
     protected Comment() {}
 
     public Comment(User user, Schedule schedule, String comment) {
         this.user = user;
         this.schedule = schedule;
         this.comment = comment;
+        this.path = CommentPath.child(null);
+    }
+
+    // 답글: 부모와 같은 일정, 부모 경로 아래
+    public static Comment reply(User user, Comment parent, String comment) {
+        Comment reply = new Comment(user, parent.getSchedule(), comment);
+        reply.parentId = parent.getId();
+        reply.depth = parent.getDepth() + 1;
+        reply.path = CommentPath.child(parent.getPath());
+        return reply;
+    }
+
+    // 본인이 직접 삭제: 일정이 복구되어도 되살아나지 않도록 함께 삭제 표시 해제
+    @Override
+    public void softDelete() {
+        super.softDelete();
+        this.cascadeDeleted = false;
     }
 
     public void updateComment(String comment) {
@@ -56,4 +104,16 @@ public class Comment extends BaseEntity {
     public String getComment() {
         return comment;
     }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public String getPath() {
+        return path;
+    }
 }
@@ -0,0 +1,57 @@
+package org.example.ch3schedulerprojectreview.comment.entity;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 답글 스레드의 경로(materialized path)
+ * 댓글마다 "조상 구간들 + 자기 구간" 문자열을 저장
+ * 구간 = 생성 시각(ms, 36진수 9자리) + 서버 안 순번(36진수 3자리) + 난수(36진수 3자리) + "/"
+ *   루트    : 0mvdgmvvq00a9wp/
+ *   답글    : 0mvdgmvvq00a9wp/0mvdgmvx900b8d0/
+ * - 고정 길이라 문자열 정렬 = 스레드 안 깊이 우선 순서(형제끼리는 생성 순)
+ * - 어떤 댓글의 하위 트리 전체 = path가 그 댓글 path로 시작하는 행 = [path, subtreeEnd(path)) 인덱스 범위 1번
+ *   경로 문자(/, 0-9, a-z)는 바이너리 정렬이든 MySQL 기본 콜레이션(utf8mb4_0900_ai_ci)이든 순서가 같음: / < 0-9 < a-z
+ *   -> 컬럼 콜레이션과 상관없이 같은 범위 ('~' 같은 기호는 콜레이션마다 위치가 달라 경계로 쓰지 않음. 0900_ai_ci에서는 숫자보다 앞)
+ * - 구간을 ID가 아니라 생성 시 만드는 값으로 써서 INSERT 1번으로 끝남(ID는 INSERT 이후에야 알 수 있음)
+ *   같은 ms 안에서도 서버 안 순번이 달라 겹치지 않음(ms당 46656개까지). 서버끼리는 순번 + 난수까지 같아야 겹침
+ *   겹치면 uk_comment_path에서 막힘
+ */
+public final class CommentPath {
+
+    public static final int SEGMENT_LENGTH = 16;    // 9 + 3 + 3 + "/"
+    public static final int MAX_LENGTH = 255;       // path 컬럼 길이
+    private static final int TIME_DIGITS = 9;
+    private static final int COUNTER_DIGITS = 3;
+    private static final int RANDOM_DIGITS = 3;
+    private static final int BOUND = 36 * 36 * 36;
+    private static final AtomicInteger COUNTER = new AtomicInteger(ThreadLocalRandom.current().nextInt(BOUND));
+
+    private CommentPath() {
+    }
+
+    public static String child(String parentPath) {
+        return (parentPath == null ? "" : parentPath)
+                + pad(Long.toString(System.currentTimeMillis(), 36), TIME_DIGITS)
+                + pad(Integer.toString(Math.floorMod(COUNTER.getAndIncrement(), BOUND), 36), COUNTER_DIGITS)
+                + pad(Integer.toString(ThreadLocalRandom.current().nextInt(BOUND), 36), RANDOM_DIGITS)
+                + "/";
+    }
+
+    /** 하위 트리 범위의 끝(미포함) = 마지막 "/"를 "0"으로
+     * 하위 댓글은 모두 path + "[0-9a-z]..."라서 같은 위치에서 "/" < "0" -> 범위 안
+     * 다음 형제는 같은 위치가 "/"보다 큰 문자라서 "0" 이상 -> 범위 밖 (사이에 들어갈 경로 문자가 없음)
+     * SQL에서는 concat(left(path, char_length(path) - 1), '0')
+     */
+    public static String subtreeEnd(String path) {
+        return path.substring(0, path.length() - 1) + "0";
+    }
+
+    // 이 깊이(루트 = 0)까지 path 컬럼에 들어가는지
+    public static boolean fits(int depth) {
+        return (depth + 1) * SEGMENT_LENGTH <= MAX_LENGTH;
+    }
+
+    private static String pad(String value, int length) {
+        return "0".repeat(Math.max(0, length - value.length())) + value;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.ch3schedulerprojectreview.comment.event;
+
+import lombok.Getter;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentStreamMessage;
+
+@Getter
+/** 댓글 변경 이벤트
+ * CommentService(생성, 수정, 삭제), CommentCascade(일정 삭제/복구로 댓글 전체 삭제/복구)에서 발행
+ * 커밋 이후 댓글 스트림 구독자에게 전달
+ */
+public class CommentChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        CASCADE_DELETED,     // 일정 삭제로 일정의 댓글 전체 삭제. message에는 scheduleId만
+        CASCADE_RESTORED     // 일정 복구로 함께 삭제됐던 댓글 복구. message에는 scheduleId만
+    }
+
+    private final CommentStreamMessage message;
+    private final Type type;
+
+    public CommentChangedEvent(CommentStreamMessage message, Type type) {
+        this.message = message;
+        this.type = type;
+    }
+}
@@ -0,0 +1,118 @@
+package org.example.ch3schedulerprojectreview.comment.ingest;
+
+import org.example.ch3schedulerprojectreview.comment.dto.CommentResponse;
+import org.example.ch3schedulerprojectreview.common.exception.custom.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** write-behind 대기열의 댓글 1건
+ * 배치 트랜잭션 안에서 결과(accept/reject)만 기록하고, 커밋된 뒤에 complete()로 기다리는 요청에 전달
+ * -> 롤백된 결과가 응답으로 나가지 않음
+ * 상태: PENDING -> CLAIMED(작성 스레드가 트랜잭션에 넣음) 또는 ABANDONED(요청이 먼저 시간 초과)
+ * -> 시간 초과로 503을 받은 댓글은 저장되지 않음 (재시도해도 중복 없음)
+ */
+public class CommentIngestItem {
+
+    private final Long userId;
+    private final Long scheduleId;
+    private final String comment;
+    private static final int PENDING = 0;
+    private static final int CLAIMED = 1;
+    private static final int ABANDONED = 2;
+
+    private final CompletableFuture<CommentResponse> result = new CompletableFuture<>();
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    private CommentResponse response;
+    private RuntimeException error;
+
+    public CommentIngestItem(Long userId, Long scheduleId, String comment) {
+        this.userId = userId;
+        this.scheduleId = scheduleId;
+        this.comment = comment;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getScheduleId() {
+        return scheduleId;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    // 저장됨 (커밋 전)
+    public void accept(CommentResponse response) {
+        this.response = response;
+        this.error = null;
+    }
+
+    // 이 항목만 실패 (일정/유저 없음 등). 나머지 항목은 그대로 저장
+    public void reject(RuntimeException error) {
+        this.response = null;
+        this.error = error;
+    }
+
+    // 커밋 이후 호출
+    void complete() {
+        if (error != null) {
+            result.completeExceptionally(error);
+        } else {
+            result.complete(response);
+        }
+    }
+
+    void fail(RuntimeException error) {
+        result.completeExceptionally(error);
+    }
+
+    // 작성 스레드: 트랜잭션에 넣기 직전 호출. false = 요청이 이미 시간 초과로 포기함 -> 저장하지 않음
+    boolean claim() {
+        return state.compareAndSet(PENDING, CLAIMED);
+    }
+
+    /** 요청 스레드: 배치가 커밋될 때까지 대기
+     * 시간 초과 시 아직 트랜잭션에 들어가지 않았으면 포기(503, 저장 안 됨)
+     * 이미 들어갔으면 커밋/롤백 결과까지 기다림 -> 저장된 댓글에 503을 주지 않음
+     * (트랜잭션 시간은 커넥션/쿼리 타임아웃으로 제한됨)
+     */
+    CommentResponse await(Duration timeout) {
+        try {
+            return get(timeout);
+        } catch (TimeoutException e) {
+            if (state.compareAndSet(PENDING, ABANDONED)) {
+                throw new ServiceUnavailableException("댓글 요청이 많아 저장하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+            }
+            try {
+                return get(null);
+            } catch (TimeoutException unreachable) {
+                throw new IllegalStateException(unreachable);    // 시간 제한 없이 대기하므로 발생하지 않음
+            }
+        }
+    }
+
+    // timeout이 null이면 결과가 나올 때까지 대기
+    private CommentResponse get(Duration timeout) throws TimeoutException {
+        try {
+            return timeout == null ? result.get() : result.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (state.compareAndSet(PENDING, ABANDONED)) {
+                throw new ServiceUnavailableException("댓글 저장이 중단되었습니다. 다시 시도해 주세요.");
+            }
+            throw new ServiceUnavailableException("댓글 저장 확인이 중단되었습니다. 잠시 후 목록에서 확인해 주세요.");
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.ch3schedulerprojectreview.comment.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentRequest;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentResponse;
+import org.example.ch3schedulerprojectreview.comment.service.CommentService;
+import org.example.ch3schedulerprojectreview.common.exception.custom.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+/** 댓글 write-behind 저장 (comment.ingest.enabled=true 일 때만 사용)
+ * 같은 일정에 댓글이 몰리면 요청마다 트랜잭션 + 일정/유저 조회 + 댓글 수 UPDATE + INSERT를 따로 실행
+ * -> 받은 댓글을 제한된 크기의 대기열에 넣고, 작성 스레드 1개가 linger 동안 모아서 트랜잭션 1번에 저장(group commit)
+ * - 배치 1번 = 일정 조회 1번 + 유저 조회 1번 + 일정별 댓글 수 UPDATE 1번 + multi-row INSERT (CommentService.saveBatch)
+ * - 요청은 배치가 커밋된 뒤에 응답(201) -> 응답을 받은 댓글은 DB에 있음
+ * - 대기열이 가득 차면 바로 503 (메모리에 무한정 쌓지 않음)
+ * - ack-timeout 안에 트랜잭션에 들어가지 못한 댓글은 요청이 포기(503)하고 작성 스레드도 건너뜀 -> 503이면 저장 안 됨
+ * - 배치가 실패하면 항목별로 다시 저장해서 문제 항목만 실패
+ * 확인: /actuator/metrics/comment.ingest.queue.size, comment.ingest.batch.size, comment.ingest.rejected, comment.ingest.abandoned
+ */
+public class CommentIngestQueue {
+
+    private final CommentService commentService;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final Duration linger;
+    private final Duration ackTimeout;
+    private final BlockingQueue<CommentIngestItem> queue;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter rejectedCounter;
+    private final Counter abandonedCounter;
+    private volatile boolean running;
+    private Thread writer;
+
+    public CommentIngestQueue(
+            CommentService commentService,
+            MeterRegistry meterRegistry,
+            @Value("${comment.ingest.enabled:false}") boolean enabled,
+            @Value("${comment.ingest.queue-capacity:10000}") int queueCapacity,
+            @Value("${comment.ingest.max-batch:500}") int maxBatch,
+            @Value("${comment.ingest.linger:5ms}") Duration linger,
+            @Value("${comment.ingest.ack-timeout:5s}") Duration ackTimeout
+    ) {
+        this.commentService = commentService;
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.linger = linger;
+        this.ackTimeout = ackTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("comment.ingest.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("comment.ingest.batch.size").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("comment.ingest.rejected").register(meterRegistry);
+        this.abandonedCounter = Counter.builder("comment.ingest.abandoned").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "comment-ingest");
+        writer.start();
+    }
+
+    // 종료: 새 요청은 받지 않고, 이미 받은 댓글은 저장 후 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = writer;
+        }
+        if (current != null) {
+            current.join(ackTimeout.toMillis());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 대기열에 넣고 배치가 커밋될 때까지 대기
+    public CommentResponse submit(Long userId, Long scheduleId, CommentRequest request) {
+        CommentIngestItem item = new CommentIngestItem(userId, scheduleId, request.getComment());
+        if (!running || !queue.offer(item)) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("댓글 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return item.await(ackTimeout);
+    }
+
+    private void runWriter() {
+        List<CommentIngestItem> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                CommentIngestItem first = queue.poll(1, TimeUnit.SECONDS);    // 멈출 때 running을 다시 확인하도록 시간 제한
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - batch.size());
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < maxBatch) {    // 배치가 덜 찼으면 linger까지 더 모음
+                    CommentIngestItem next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxBatch - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();    // 모은 것까지만 저장하고 종료
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+        failRemaining();
+    }
+
+    private void write(List<CommentIngestItem> batch) {
+        int size = batch.size();
+        batch.removeIf(item -> !item.claim());    // 요청이 이미 시간 초과로 포기한 댓글은 저장하지 않음
+        abandonedCounter.increment(size - batch.size());
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+        try {
+            commentService.saveBatch(batch);    // 트랜잭션 1번, 반환 = 커밋 완료
+            batch.forEach(CommentIngestItem::complete);
+        } catch (RuntimeException e) {
+            log.warn("댓글 배치 저장 실패, 항목별로 다시 저장: size={}", batch.size(), e);
+            for (CommentIngestItem item : batch) {
+                try {
+                    commentService.saveBatch(List.of(item));
+                    item.complete();
+                } catch (RuntimeException itemError) {
+                    item.fail(itemError);
+                }
+            }
+        }
+    }
+
+    private void failRemaining() {
+        CommentIngestItem item;
+        while ((item = queue.poll()) != null) {
+            item.fail(new ServiceUnavailableException("서버가 종료 중입니다. 잠시 후 다시 시도해 주세요."));
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package org.example.ch3schedulerprojectreview.comment.repository;
 
+import org.example.ch3schedulerprojectreview.comment.dto.CommentStreamMessage;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentThreadRow;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentWriteTarget;
 import org.example.ch3schedulerprojectreview.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("select c from Comment c " +
@@ -15,9 +25,144 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "where c.user.userId = :userId")
     Page<Comment> findAllByUser_UserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("select c from Comment c " +
+    /** 댓글 생성 응답용 프로젝션: 일정 + 일정 작성자 + 댓글 작성자 이름 (쿼리 1번, PK 조회 3개)
+     * SELECT u.user_id, u.email, u.username, s.schedule_id, ..., s.comment_count, s.version, u.version, w.username
+     * FROM schedule s JOIN user u ON u.user_id = s.user_id CROSS JOIN user w
+     * WHERE s.schedule_id = ? AND s.deleted = false AND w.user_id = ?
+     * 결과 없음 = 일정(삭제 포함) 또는 댓글 작성자가 없음
+     */
+    @Query("select new org.example.ch3schedulerprojectreview.comment.dto.CommentWriteTarget(" +
+            "u.userId, u.email, u.username, s.scheduleId, s.title, s.content, " +
+            "s.startDateTime, s.endDateTime, s.createdAt, s.modifiedAt, s.recurrenceRule, s.exceptionDates, " +
+            "s.reminderMinutes, s.commentCount, s.version, u.version, w.username) " +
+            "from Schedule s join s.user u, User w " +
+            "where s.scheduleId = :scheduleId and s.deleted = false and w.userId = :userId")
+    Optional<CommentWriteTarget> findWriteTarget(@Param("scheduleId") Long scheduleId, @Param("userId") Long userId);
+
+    /** 일정 삭제에 따른 댓글 일괄 소프트 딜리트: UPDATE 1번 (idx_comment_schedule_created로 대상만 읽음)
+     * cascade_deleted로 표시 -> 일정 복구 시 이 댓글만 되살림(본인이 직접 삭제한 댓글은 그대로)
+     * 벌크 UPDATE는 엔티티를 거치지 않으므로 @Version, @LastModifiedDate를 직접 갱신 (modified_at = 보관 기간 기준)
+     * flushAutomatically: 일정 변경(삭제 표시)을 먼저 flush -> 일정 행을 먼저 잠금(댓글 생성과 같은 순서)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.deleted = true, c.cascadeDeleted = true, " +
+            "c.version = c.version + 1, c.modifiedAt = :now " +
+            "where c.schedule.scheduleId in :scheduleIds and c.deleted = false")
+    int cascadeDeleteBySchedules(
+            @Param("scheduleIds") Collection<Long> scheduleIds,
+            @Param("now") LocalDateTime now
+    );
+
+    // 일정 복구: 일정 삭제로 함께 삭제된 댓글만 복구 (UPDATE 1번)
+    @Modifying(flushAutomatically = true)
+    @Query("update Comment c set c.deleted = false, c.cascadeDeleted = false, " +
+            "c.version = c.version + 1, c.modifiedAt = :now " +
+            "where c.schedule.scheduleId in :scheduleIds and c.deleted = true and c.cascadeDeleted = true")
+    int cascadeRestoreBySchedules(
+            @Param("scheduleIds") Collection<Long> scheduleIds,
+            @Param("now") LocalDateTime now
+    );
+
+    /** 유저 댓글 피드 (기본 모드 응답용 fetch plan)
+     * 응답의 일정 정보에 일정 작성자(이메일, 이름, 버전)가 들어가므로 c.schedule.user까지 fetch join
+     * -> 페이지 크기와 상관없이 본문 1번 + COUNT 1번 (일정 작성자 지연 로딩 없음)
+     * 댓글 작성자(c.user)는 모든 행이 같은 유저라 같은 엔티티 1개로 채워짐
+     */
+    @Query(value = "select c from Comment c " +
             "join fetch c.user " +
-            "join fetch c.schedule " +
-            "where c.user.userId = :scheduleId")
+            "join fetch c.schedule s " +
+            "join fetch s.user " +
+            "where c.user.userId = :userId",
+            countQuery = "select count(c) from Comment c where c.user.userId = :userId")
+    Page<Comment> findFeedByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /** 일정 기준 댓글 목록 (삭제된 댓글 제외)
+     * 일정은 서비스에서 이미 조회했으므로 작성자만 fetch join
+     * countQuery를 직접 지정 -> fetch join 없이 인덱스만 세는 COUNT 1번
+     * (생략하면 Spring이 본문 쿼리에서 COUNT를 만들어 fetch join이 섞임)
+     */
+    @Query(value = "select c from Comment c " +
+            "join fetch c.user " +
+            "where c.schedule.scheduleId = :scheduleId and c.deleted = false",
+            countQuery = "select count(c) from Comment c " +
+                    "where c.schedule.scheduleId = :scheduleId and c.deleted = false")
     Page<Comment> findAllBySchedule_ScheduleId(@Param("scheduleId") Long scheduleId, Pageable pageable);
+    /** 최종 SQL (정렬 createdAt desc)
+     * SELECT c.*, u.* FROM comment c JOIN user u ON u.user_id = c.user_id
+     * WHERE c.schedule_id = ? AND NOT c.deleted
+     * ORDER BY c.created_at DESC LIMIT ?, ?
+     * SELECT COUNT(c.id) FROM comment c WHERE c.schedule_id = ? AND NOT c.deleted
+     * -> 둘 다 idx_comment_schedule_created (schedule_id, deleted, created_at) 범위 스캔. 정렬도 인덱스 순서(filesort 없음)
+     */
+
+    /** 댓글 스트림 접속 시 보낼 밀린 댓글: since 이후에 생성된 댓글 중 최근 것부터 limit개
+     * 댓글 ID(pooled 시퀀스)는 커밋 순서와 달라서 기준으로 쓰지 않음 -> 생성 시각(created_at, id) 기준
+     * 정렬을 created_at 기준으로 해야 idx_comment_schedule_created 인덱스를 역순으로 읽고 limit에서 멈춤
+     */
+    @Query("select new org.example.ch3schedulerprojectreview.comment.dto.CommentStreamMessage(" +
+            "c.id, c.schedule.scheduleId, c.parentId, u.username, c.comment, c.createdAt, c.modifiedAt) " +
+            "from Comment c join c.user u " +
+            "where c.schedule.scheduleId = :scheduleId and c.deleted = false and c.createdAt > :since " +
+            "order by c.createdAt desc, c.id desc")
+    List<CommentStreamMessage> findStreamBacklog(
+            @Param("scheduleId") Long scheduleId,
+            @Param("since") LocalDateTime since,
+            Limit limit
+    );
+
+    // 예전 형식(댓글 ID)의 스트림 재접속 위치 -> 그 댓글의 생성 시각
+    @Query("select c.createdAt from Comment c where c.id = :commentId")
+    Optional<LocalDateTime> findCreatedAtById(@Param("commentId") Long commentId);
+
+    /** 일정의 스레드 목록: 루트 댓글 최신순 offset부터 rootLimit개 + 스레드마다 앞쪽 perThread행(루트 포함)
+     * t: 루트만 idx_comment_schedule_root (schedule_id, depth, created_at) 역순으로 읽고 limit에서 멈춤
+     * c: 루트마다 LATERAL로 path 범위 [루트 path, CommentPath.subtreeEnd(루트 path))를 uk_comment_path 순서대로 읽고 perThread행에서 멈춤
+     * -> 스레드 안 답글이 아무리 많아도 읽는 행 = 루트 수 x perThread. 쿼리 1번 (MySQL 8.0.14+)
+     * 삭제된 댓글도 살아 있는 하위 답글이 있으면 deleted = true 행으로 나옴(자리 표시). 없으면 빠짐
+     * -> 삭제된 루트/중간 댓글 아래의 답글도 스레드에서 닿을 수 있음. exists는 삭제된 행에서만 (하위 범위 첫 행만 확인)
+     * 결과 순서 = 루트 최신순, 스레드 안은 path 순(첫 행이 루트)
+     */
+    @Query(value = "select c.id as id, c.parent_id as parentId, c.depth as depth, c.user_id as userId, " +
+            "u.username as userName, c.comment as comment, c.created_at as createdAt, c.modified_at as modifiedAt, " +
+            "c.deleted as deleted " +
+            "from (select r.id as root_id, r.path as root_path, r.created_at as root_created from comment r " +
+            "      where r.schedule_id = :scheduleId and r.depth = 0 " +
+            "        and (r.deleted = false or exists (select 1 from comment d " +
+            "             where d.path > r.path and d.path < concat(left(r.path, char_length(r.path) - 1), '0') " +
+            "               and d.deleted = false)) " +
+            "      order by r.created_at desc, r.id desc limit :rootLimit offset :rootOffset) t " +
+            "cross join lateral (select x.* from comment x " +
+            "      where x.path >= t.root_path and x.path < concat(left(t.root_path, char_length(t.root_path) - 1), '0') " +
+            "        and (x.deleted = false or exists (select 1 from comment d " +
+            "             where d.path > x.path and d.path < concat(left(x.path, char_length(x.path) - 1), '0') " +
+            "               and d.deleted = false)) " +
+            "      order by x.path limit :perThread) c " +
+            "join user u on u.user_id = c.user_id " +
+            "order by t.root_created desc, t.root_id desc, c.path",
+            nativeQuery = true)
+    List<CommentThreadRow> findThreadRows(
+            @Param("scheduleId") Long scheduleId,
+            @Param("rootOffset") long rootOffset,
+            @Param("rootLimit") int rootLimit,
+            @Param("perThread") int perThread
+    );
+
+    /** 하위 트리 한 페이지: path가 (after, end) 사이인 댓글을 path 순으로 (키셋 페이지네이션)
+     * 처음에는 after = 부모 path(부모 자신은 제외), 다음부터는 이전 페이지 마지막 path
+     * uk_comment_path 범위 스캔. 페이지가 뒤로 가도 앞 행을 건너뛰지 않음
+     * 삭제된 댓글은 maxDepth 안에 살아 있는 하위 답글이 있을 때만 나옴(자리 표시, findThreadRows와 같은 규칙)
+     */
+    @Query("select c from Comment c " +
+            "join fetch c.user " +
+            "where c.path > :after and c.path < :end and c.depth <= :maxDepth " +
+            "and (c.deleted = false or exists (select 1 from Comment d " +
+            "     where d.path > c.path and d.path < concat(substring(c.path, 1, length(c.path) - 1), '0') " +
+            "       and d.depth <= :maxDepth and d.deleted = false)) " +
+            "order by c.path")
+    List<Comment> findSubtreePage(
+            @Param("after") String after,
+            @Param("end") String end,
+            @Param("maxDepth") int maxDepth,
+            Limit limit
+    );
 }
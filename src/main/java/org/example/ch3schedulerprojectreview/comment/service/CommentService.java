@@ -1,25 +1,53 @@
 package org.example.ch3schedulerprojectreview.comment.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentCompactPageResponse;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentCompactResponse;
 import org.example.ch3schedulerprojectreview.comment.dto.CommentDeleteRequest;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentIncludes;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentNodeResponse;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentReplySliceResponse;
 import org.example.ch3schedulerprojectreview.comment.dto.CommentRequest;
 import org.example.ch3schedulerprojectreview.comment.dto.CommentResponse;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentStreamMessage;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentThreadResponse;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentThreadRow;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentThreadSliceResponse;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentWriteTarget;
 import org.example.ch3schedulerprojectreview.comment.entity.Comment;
+import org.example.ch3schedulerprojectreview.comment.entity.CommentPath;
+import org.example.ch3schedulerprojectreview.comment.event.CommentChangedEvent;
+import org.example.ch3schedulerprojectreview.comment.ingest.CommentIngestItem;
 import org.example.ch3schedulerprojectreview.comment.repository.CommentRepository;
+import org.example.ch3schedulerprojectreview.common.etag.ETags;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.NotFoundException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.PreconditionFailedException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.UnauthorizedException;
+import org.example.ch3schedulerprojectreview.common.patch.JsonMergePatcher;
 import org.example.ch3schedulerprojectreview.config.PasswordEncoder;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
 import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
 import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
 import org.example.ch3schedulerprojectreview.user.entity.User;
 import org.example.ch3schedulerprojectreview.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 //@RequiredArgsConstructor
@@ -29,17 +57,35 @@ public class CommentService {
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JsonMergePatcher mergePatcher;
+    private final ApplicationEventPublisher eventPublisher;    // 댓글 수 변경 -> 일정 응답 캐시 무효화, 댓글 변경 -> 스트림 구독자에게 전달
+    private final int threadMaxDepth;
+    private final int threadMaxPageSize;
+    private final int threadMaxReplies;
 
     public CommentService(
             CommentRepository commentRepository,
             ScheduleRepository scheduleRepository,
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder)
+            PasswordEncoder passwordEncoder,
+            JsonMergePatcher mergePatcher,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${comment.thread.max-depth:8}") int threadMaxDepth,
+            @Value("${comment.thread.max-page-size:50}") int threadMaxPageSize,
+            @Value("${comment.thread.max-replies:20}") int threadMaxReplies)
     {
+        if (threadMaxDepth < 1 || !CommentPath.fits(threadMaxDepth)) {    // path 컬럼 길이 안에서만
+            throw new IllegalArgumentException("comment.thread.max-depth 범위 초과: " + threadMaxDepth);
+        }
         this.commentRepository = commentRepository;
         this.scheduleRepository = scheduleRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.mergePatcher = mergePatcher;
+        this.eventPublisher = eventPublisher;
+        this.threadMaxDepth = threadMaxDepth;
+        this.threadMaxPageSize = threadMaxPageSize;
+        this.threadMaxReplies = threadMaxReplies;
     }
 
     /*
@@ -82,17 +128,133 @@ Hibernate:
     */
 
     // 생성
+    // 위 SQL은 예전 방식(일정/유저 엔티티 조회 후 INSERT, 응답에서 일정 작성자 지연 로딩)
+    // 지금: 댓글 수 UPDATE(일정 존재 확인 겸) + 응답용 프로젝션 SELECT 1번 + INSERT. 일정/유저는 참조(프록시)만 사용
     @Transactional
     public CommentResponse save(Long userId, Long scheduleId, CommentRequest request) {
-        Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(
-                () -> new NotFoundException("해당하는 일정이 없습니다.")
-        );
-        User user = userRepository.findById(userId).orElseThrow(
+        return create(userId, scheduleId,
+                user -> new Comment(user, scheduleRepository.getReferenceById(scheduleId), request.getComment()));
+    }
+
+    // 답글 생성: 부모와 같은 일정에, 부모 path 아래로 (INSERT 1번. CommentPath 참고)
+    @Transactional
+    public CommentResponse saveReply(Long userId, Long parentId, CommentRequest request) {
+        Comment parent = commentRepository.findById(parentId)
+                .filter(comment -> !comment.isDeleted())
+                .orElseThrow(() -> new NotFoundException("해당하는 댓글이 없습니다."));
+        if (parent.getDepth() >= threadMaxDepth) {
+            throw new BadRequestException("답글은 " + threadMaxDepth + "단계까지만 달 수 있습니다.");
+        }
+        return create(userId, parent.getSchedule().getScheduleId(),    // 프록시의 ID만 읽음 (일정 조회 없음)
+                user -> Comment.reply(user, parent, request.getComment()));
+    }
+
+    /** 참조만으로 댓글 INSERT
+     * - 일정 행 UPDATE(댓글 수 + 1)가 존재 확인을 겸함: 0행이면 없거나 삭제된 일정. INSERT보다 먼저 일정 행 잠금 (addCommentCount 참고)
+     * - 응답 값(일정, 일정 작성자, 댓글 작성자 이름)은 프로젝션 1번. 없는 유저면 결과 없음 -> 404 (UPDATE도 롤백)
+     * - 댓글은 getReferenceById 프록시로 FK만 채움 -> 일정/유저 엔티티 SELECT 없음
+     */
+    private CommentResponse create(Long userId, Long scheduleId, Function<User, Comment> newComment) {
+        if (scheduleRepository.addCommentCount(scheduleId, 1) == 0) {
+            throw new NotFoundException("해당하는 일정이 없습니다.");
+        }
+        CommentWriteTarget target = commentRepository.findWriteTarget(scheduleId, userId).orElseThrow(
                 () -> new NotFoundException("해당하는 유저가 없습니다.")
         );
-        Comment comment = new Comment(user, schedule, request.getComment());
-        Comment savedComment = commentRepository.save(comment);
-        ScheduleResponse scheduleResponse = new ScheduleResponse(
+        Comment savedComment = commentRepository.save(newComment.apply(userRepository.getReferenceById(userId)));
+        ScheduleResponse scheduleResponse = target.getSchedule();    // 위 UPDATE 이후에 읽음 -> 이번 댓글까지 센 값
+        eventPublisher.publishEvent(new ScheduleChangedEvent(
+                scheduleResponse.getUserId(), scheduleId, ScheduleChangedEvent.Type.COMMENT_COUNT_CHANGED));
+        eventPublisher.publishEvent(new CommentChangedEvent(
+                new CommentStreamMessage(    // 프록시 user를 건드리지 않도록 프로젝션 값으로
+                        savedComment.getId(),
+                        scheduleId,
+                        savedComment.getParentId(),
+                        target.getUserName(),
+                        savedComment.getComment(),
+                        savedComment.getCreatedAt(),
+                        savedComment.getModifiedAt()),
+                CommentChangedEvent.Type.CREATED));
+        return new CommentResponse(
+                scheduleResponse,
+                savedComment.getId(),
+                target.getUserName(),
+                savedComment.getComment(),
+                savedComment.getCreatedAt(),
+                savedComment.getModifiedAt(),
+                savedComment.getVersion()
+        );
+    }
+
+    /** 댓글 일괄 생성 (write-behind 모드. CommentIngestQueue의 작성 스레드에서 배치마다 호출)
+     * 배치 전체가 트랜잭션 1번: 일정 조회 1번 + 유저 조회 1번 + 일정별 댓글 수 UPDATE/조회 + JDBC 배치 INSERT
+     * 일정(삭제 포함)/유저가 없는 항목만 reject, 나머지는 저장. 결과는 커밋 이후 CommentIngestQueue가 요청에 전달
+     * 응답의 댓글 수는 UPDATE로 일정 행을 잠근 뒤 다시 읽은 값 (처음 조회 이후 커밋된 다른 댓글까지 반영)
+     */
+    @Transactional
+    public void saveBatch(List<CommentIngestItem> items) {
+        Map<Long, Schedule> schedules = scheduleRepository.findAllWithUserByIds(
+                        items.stream().map(CommentIngestItem::getScheduleId).distinct().toList()).stream()
+                .collect(Collectors.toMap(Schedule::getScheduleId, Function.identity()));
+        Map<Long, User> users = userRepository.findAllById(
+                        items.stream().map(CommentIngestItem::getUserId).distinct().toList()).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+
+        Map<Long, Integer> addedBySchedule = new TreeMap<>();    // 일정 ID 순으로 잠금 -> 배치끼리 교착 없음
+        for (CommentIngestItem item : items) {
+            if (schedules.containsKey(item.getScheduleId()) && users.containsKey(item.getUserId())) {
+                addedBySchedule.merge(item.getScheduleId(), 1, Integer::sum);
+            }
+        }
+        // INSERT보다 먼저 일정 행 잠금 (addCommentCount 참고). 조회 이후 삭제된 일정은 0행 -> 제외
+        Map<Long, Long> commentCounts = new TreeMap<>();
+        addedBySchedule.forEach((scheduleId, added) -> {
+            if (scheduleRepository.addCommentCount(scheduleId, added) == 0) {
+                schedules.remove(scheduleId);
+            } else {
+                commentCounts.put(scheduleId, scheduleRepository.findCommentCountById(scheduleId));
+            }
+        });
+
+        List<CommentIngestItem> accepted = new ArrayList<>(items.size());
+        List<Comment> comments = new ArrayList<>(items.size());
+        for (CommentIngestItem item : items) {
+            Schedule schedule = schedules.get(item.getScheduleId());
+            User user = users.get(item.getUserId());
+            if (schedule == null) {
+                item.reject(new NotFoundException("해당하는 일정이 없습니다."));
+                continue;
+            }
+            if (user == null) {
+                item.reject(new NotFoundException("해당하는 유저가 없습니다."));
+                continue;
+            }
+            accepted.add(item);
+            comments.add(new Comment(user, schedule, item.getComment()));
+        }
+        if (comments.isEmpty()) {
+            return;
+        }
+
+        commentRepository.saveAll(comments);
+        commentRepository.flush();    // hibernate.jdbc.batch_size 단위로 묶어서 INSERT (rewriteBatchedStatements -> multi-row)
+
+        Map<Long, ScheduleResponse> scheduleResponses = new TreeMap<>();
+        commentCounts.forEach((scheduleId, commentCount) -> {
+            Schedule schedule = schedules.get(scheduleId);
+            scheduleResponses.put(scheduleId, toScheduleResponse(schedule, commentCount));
+            eventPublisher.publishEvent(new ScheduleChangedEvent(
+                    schedule.getUser().getUserId(), scheduleId, ScheduleChangedEvent.Type.COMMENT_COUNT_CHANGED));
+        });
+        for (int i = 0; i < comments.size(); i++) {
+            Comment comment = comments.get(i);
+            eventPublisher.publishEvent(new CommentChangedEvent(toStreamMessage(comment), CommentChangedEvent.Type.CREATED));
+            accepted.get(i).accept(toCreatedResponse(scheduleResponses.get(comment.getSchedule().getScheduleId()), comment));
+        }
+    }
+
+    private ScheduleResponse toScheduleResponse(Schedule schedule, long commentCount) {
+        return new ScheduleResponse(
                 schedule.getUser().getUserId(),
                 schedule.getUser().getEmail(),
                 schedule.getUser().getUsername(),
@@ -100,15 +262,27 @@ Hibernate:
                 schedule.getTitle(),
                 schedule.getContent(),
                 schedule.getStartDateTime(),
-                schedule.getEndDateTime()
+                schedule.getEndDateTime(),
+                schedule.getCreatedAt(),
+                schedule.getModifiedAt(),
+                schedule.getRecurrenceRule(),
+                schedule.getExceptionDates(),
+                schedule.getReminderMinutes(),
+                commentCount,
+                schedule.getVersion(),
+                schedule.getUser().getVersion()
         );
+    }
+
+    private CommentResponse toCreatedResponse(ScheduleResponse scheduleResponse, Comment savedComment) {
         return new CommentResponse(
                 scheduleResponse,
                 savedComment.getId(),
                 savedComment.getUser().getUsername(),
                 savedComment.getComment(),
                 savedComment.getCreatedAt(),
-                savedComment.getModifiedAt()
+                savedComment.getModifiedAt(),
+                savedComment.getVersion()
         );
     }
 
@@ -153,29 +327,39 @@ Hibernate:
     */
 
     // 유저 아이디 기준 전체 조회
+    // 위 SQL은 예전 fetch plan(일정 작성자는 일정마다 추가 SELECT). 지금은 findFeedByUserId로 일정 작성자까지 한 번에
     @Transactional(readOnly = true)
     public Page<CommentResponse> findAllByUserId(Long userId, Pageable pageable) {
-        // 유저 기준 댓글 전체 조회
-        Page<Comment> comments = commentRepository.findAllByUser_UserId(userId, pageable);    // 댓글 목록 조회
+        // 유저 기준 댓글 전체 조회. 본문 1번 + COUNT 1번 (CommentFeedQueryCountTest)
+        Page<Comment> comments = commentRepository.findFeedByUserId(userId, pageable);    // 댓글 + 작성자 + 일정 + 일정 작성자
         return comments.map(comment -> {
-            Schedule schedule = comment.getSchedule();    // 댓글 달린 일정 조회. SELECT * FROM schedule WHERE schedule_id = ?
+            Schedule schedule = comment.getSchedule();    // fetch join으로 이미 로딩됨
             ScheduleResponse scheduleResponse = new ScheduleResponse(
-                    schedule.getUser().getUserId(),    // 일정마다 유저를 DB에서 가져오기 위해 쿼리 발생
+                    schedule.getUser().getUserId(),    // 일정 작성자도 fetch join으로 로딩됨 (추가 쿼리 없음)
                     schedule.getUser().getEmail(),
                     schedule.getUser().getUsername(),
                     schedule.getScheduleId(),
                     schedule.getTitle(),
                     schedule.getContent(),
                     schedule.getStartDateTime(),
-                    schedule.getEndDateTime()
+                    schedule.getEndDateTime(),
+                    schedule.getCreatedAt(),
+                    schedule.getModifiedAt(),
+                    schedule.getRecurrenceRule(),
+                    schedule.getExceptionDates(),
+                    schedule.getReminderMinutes(),
+                    schedule.getCommentCount(),
+                    schedule.getVersion(),
+                    schedule.getUser().getVersion()
             );
             return new CommentResponse(
                     scheduleResponse,
                     comment.getId(),
-                    comment.getUser().getUsername(),    // 댓글마다 유저를 DB에서 가져오기 위해 쿼리 발생
+                    comment.getUser().getUsername(),
                     comment.getComment(),
                     comment.getCreatedAt(),
-                    comment.getModifiedAt());
+                    comment.getModifiedAt(),
+                    comment.getVersion());
         });
     }
 
@@ -237,7 +421,7 @@ Hibernate:
     // 일정 아이디 기준 전체 조회
     @Transactional(readOnly = true)
     public Page<CommentResponse> findAllByScheduleId(Long scheduleId, Pageable pageable) {
-        Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(
+        Schedule schedule = scheduleRepository.findWithUserById(scheduleId).orElseThrow(    // 일정 + 작성자 쿼리 1번
                 () -> new NotFoundException("해당하는 댓글이 없습니다.")
         );
         Page<Comment> comments = commentRepository.findAllBySchedule_ScheduleId(scheduleId, pageable);
@@ -249,7 +433,15 @@ Hibernate:
                 schedule.getTitle(),
                 schedule.getContent(),
                 schedule.getStartDateTime(),
-                schedule.getEndDateTime()
+                schedule.getEndDateTime(),
+                schedule.getCreatedAt(),
+                schedule.getModifiedAt(),
+                schedule.getRecurrenceRule(),
+                schedule.getExceptionDates(),
+                schedule.getReminderMinutes(),
+                schedule.getCommentCount(),
+                schedule.getVersion(),
+                schedule.getUser().getVersion()
         );
         return comments.map(comment ->
             new CommentResponse(
@@ -258,7 +450,153 @@ Hibernate:
                     comment.getUser().getUsername(),
                     comment.getComment(),
                     comment.getCreatedAt(),
-                    comment.getModifiedAt()));
+                    comment.getModifiedAt(),
+                    comment.getVersion()));
+    }
+
+    /** compact 모드 (?view=compact): 댓글은 ID로 일정/작성자를 가리키고 includes에 한 번씩만
+     * 유저 기준: 페이지에 나온 일정들을 프로젝션 1번으로 조회(기본 모드는 일정마다 작성자 지연 로딩)
+     */
+    @Transactional(readOnly = true)
+    public CommentCompactPageResponse findAllByUserIdCompact(Long userId, Pageable pageable) {
+        Page<Comment> comments = commentRepository.findAllByUser_UserId(userId, pageable);
+        CommentIncludes includes = new CommentIncludes();
+        List<Long> scheduleIds = comments.stream()
+                .map(comment -> comment.getSchedule().getScheduleId())
+                .distinct()
+                .toList();
+        if (!scheduleIds.isEmpty()) {
+            scheduleRepository.findResponsesByIdsIncludingDeleted(scheduleIds).forEach(includes::addSchedule);
+        }
+        return new CommentCompactPageResponse(comments.map(comment -> toCompact(comment, includes)), includes);
+    }
+
+    // 일정 기준: includes.schedules는 항상 1건
+    @Transactional(readOnly = true)
+    public CommentCompactPageResponse findAllByScheduleIdCompact(Long scheduleId, Pageable pageable) {
+        ScheduleResponse schedule = scheduleRepository.findResponsesByIdsIncludingDeleted(List.of(scheduleId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("해당하는 댓글이 없습니다."));
+        Page<Comment> comments = commentRepository.findAllBySchedule_ScheduleId(scheduleId, pageable);
+        CommentIncludes includes = new CommentIncludes();
+        includes.addSchedule(schedule);
+        return new CommentCompactPageResponse(comments.map(comment -> toCompact(comment, includes)), includes);
+    }
+
+    /** 일정의 스레드 목록 (루트 댓글 최신순, 페이지 번호 1부터)
+     * 스레드마다 루트 + 앞쪽 답글 replies개를 쿼리 1번으로 (CommentRepository.findThreadRows)
+     * 루트를 size + 1개, 스레드마다 replies + 1개 더 읽어서 다음 페이지/남은 답글 여부 판단
+     * 삭제된 루트/중간 댓글은 살아 있는 답글이 있으면 자리 표시(deleted = true)로 나오고, 없으면 빠짐
+     */
+    @Transactional(readOnly = true)
+    public CommentThreadSliceResponse findThreads(Long scheduleId, int page, int size, int replies) {
+        int pageNumber = Math.max(page - 1, 0);
+        int pageSize = Math.min(Math.max(size, 1), threadMaxPageSize);
+        int replyLimit = Math.min(Math.max(replies, 0), threadMaxReplies);
+        List<CommentThreadRow> rows = commentRepository.findThreadRows(
+                scheduleId, (long) pageNumber * pageSize, pageSize + 1, replyLimit + 2);
+
+        List<CommentThreadResponse> threads = new ArrayList<>();
+        CommentNodeResponse root = null;
+        List<CommentNodeResponse> threadReplies = new ArrayList<>();
+        boolean hasNext = false;
+        for (CommentThreadRow row : rows) {
+            if (row.getDepth() == 0) {    // 스레드의 첫 행 = 루트
+                if (root != null) {
+                    threads.add(toThread(root, threadReplies, replyLimit));
+                }
+                if (threads.size() == pageSize) {
+                    hasNext = true;    // size + 1번째 루트
+                    root = null;
+                    break;
+                }
+                root = toNode(row);
+                threadReplies = new ArrayList<>();
+            } else {
+                threadReplies.add(toNode(row));
+            }
+        }
+        if (root != null) {
+            threads.add(toThread(root, threadReplies, replyLimit));
+        }
+        return new CommentThreadSliceResponse(threads, pageNumber + 1, pageSize, hasNext);
+    }
+
+    /** 댓글의 하위 답글 (스레드 순서, 키셋 페이지네이션)
+     * after: 이전 페이지의 nextCursor. depth: 이 댓글 기준 몇 단계 아래까지 (없으면 전부)
+     */
+    @Transactional(readOnly = true)
+    public CommentReplySliceResponse findReplies(Long commentId, String after, int size, Integer depth) {
+        Comment parent = commentRepository.findById(commentId).orElseThrow(
+                () -> new NotFoundException("해당하는 댓글이 없습니다.")
+        );
+        String start = parent.getPath();
+        if (after != null && !after.startsWith(start)) {
+            throw new BadRequestException("after 값이 이 댓글의 답글 커서가 아닙니다.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), threadMaxPageSize);
+        int maxDepth = depth == null ? Integer.MAX_VALUE : parent.getDepth() + Math.max(depth, 1);
+        List<Comment> comments = commentRepository.findSubtreePage(
+                after != null ? after : start, CommentPath.subtreeEnd(start), maxDepth, Limit.of(pageSize + 1));
+        boolean hasMore = comments.size() > pageSize;
+        List<Comment> page = hasMore ? comments.subList(0, pageSize) : comments;
+        return new CommentReplySliceResponse(
+                page.stream().map(this::toNode).toList(),
+                hasMore ? page.get(page.size() - 1).getPath() : null);
+    }
+
+    private CommentThreadResponse toThread(CommentNodeResponse root, List<CommentNodeResponse> replies, int replyLimit) {
+        boolean hasMoreReplies = replies.size() > replyLimit;
+        return new CommentThreadResponse(
+                root, hasMoreReplies ? List.copyOf(replies.subList(0, replyLimit)) : replies, hasMoreReplies);
+    }
+
+    private CommentNodeResponse toNode(CommentThreadRow row) {
+        if (Boolean.TRUE.equals(row.getDeleted())) {
+            return CommentNodeResponse.tombstone(row.getId(), row.getParentId(), row.getDepth());
+        }
+        return new CommentNodeResponse(
+                row.getId(),
+                row.getParentId(),
+                row.getDepth(),
+                row.getUserId(),
+                row.getUserName(),
+                row.getComment(),
+                row.getCreatedAt(),
+                row.getModifiedAt(),
+                false
+        );
+    }
+
+    private CommentNodeResponse toNode(Comment comment) {
+        if (comment.isDeleted()) {
+            return CommentNodeResponse.tombstone(comment.getId(), comment.getParentId(), comment.getDepth());
+        }
+        User user = comment.getUser();    // fetch join으로 이미 로딩됨
+        return new CommentNodeResponse(
+                comment.getId(),
+                comment.getParentId(),
+                comment.getDepth(),
+                user.getUserId(),
+                user.getUsername(),
+                comment.getComment(),
+                comment.getCreatedAt(),
+                comment.getModifiedAt(),
+                false
+        );
+    }
+
+    private CommentCompactResponse toCompact(Comment comment, CommentIncludes includes) {
+        User user = comment.getUser();    // fetch join으로 이미 로딩됨
+        includes.addUser(user.getUserId(), user.getUsername());
+        return new CommentCompactResponse(
+                comment.getId(),
+                comment.getSchedule().getScheduleId(),
+                user.getUserId(),
+                comment.getComment(),
+                comment.getCreatedAt(),
+                comment.getModifiedAt()
+        );
     }
 
     /*
@@ -318,14 +656,43 @@ Hibernate:
 
     // 수정
     @Transactional
-    public CommentResponse updateById(Long commentId, Long sessionUserId, CommentRequest request) {
+    public CommentResponse updateById(Long commentId, Long sessionUserId, CommentRequest request, String ifMatch) {
+        Comment comment = findMyCommentForUpdate(commentId, sessionUserId, ifMatch);
+        return applyUpdate(comment, request);
+    }
+
+    // 부분 수정 (JSON Merge Patch). 내용이 같으면 UPDATE 없음(@DynamicUpdate + 변경 감지)
+    @Transactional
+    public CommentResponse patchById(Long commentId, Long sessionUserId, JsonNode patch, String ifMatch) {
+        Comment comment = findMyCommentForUpdate(commentId, sessionUserId, ifMatch);
+        CommentRequest request = mergePatcher.apply(
+                new CommentRequest(comment.getComment()), patch, CommentRequest.class);
+        return applyUpdate(comment, request);
+    }
+
+    private Comment findMyCommentForUpdate(Long commentId, Long sessionUserId, String ifMatch) {
         Comment comment = commentRepository.findById(commentId).orElseThrow(
                 () -> new NotFoundException("해당하는 댓글이 없습니다.")
         );
         if (!Objects.equals(comment.getUser().getUserId(), sessionUserId)) {
             throw new UnauthorizedException("본인 댓글만 수정 가능합니다.");
         }
+        // If-Match: 클라이언트가 본 버전과 다르면 그 사이 다른 수정이 있었던 것 -> 412
+        if (!ETags.matches(ifMatch, ETags.of(commentId, comment.getVersion()))) {
+            throw new PreconditionFailedException("댓글이 다른 요청에 의해 수정되었습니다. 다시 조회 후 수정해 주세요.");
+        }
+        return comment;
+    }
+
+    private CommentResponse applyUpdate(Comment comment, CommentRequest request) {
+        Long versionBefore = comment.getVersion();
         comment.updateComment(request.getComment());
+        // 조회~flush 사이의 동시 수정은 @Version 조건(where version=?)에 걸려 409
+        // flush 후 올라간 버전으로 응답 ETag 생성
+        commentRepository.flush();
+        if (!Objects.equals(versionBefore, comment.getVersion())) {    // 내용이 같아 UPDATE가 없었으면 알릴 것도 없음
+            eventPublisher.publishEvent(new CommentChangedEvent(toStreamMessage(comment), CommentChangedEvent.Type.UPDATED));
+        }
 
         Schedule schedule = comment.getSchedule();
         ScheduleResponse scheduleResponse = new ScheduleResponse(
@@ -336,7 +703,15 @@ Hibernate:
                 schedule.getTitle(),
                 schedule.getContent(),
                 schedule.getStartDateTime(),
-                schedule.getEndDateTime()
+                schedule.getEndDateTime(),
+                schedule.getCreatedAt(),
+                schedule.getModifiedAt(),
+                schedule.getRecurrenceRule(),
+                schedule.getExceptionDates(),
+                schedule.getReminderMinutes(),
+                schedule.getCommentCount(),
+                schedule.getVersion(),
+                schedule.getUser().getVersion()
         );
         return new CommentResponse(
                 scheduleResponse,
@@ -344,7 +719,8 @@ Hibernate:
                 comment.getUser().getUsername(),
                 comment.getComment(),
                 comment.getCreatedAt(),
-                comment.getModifiedAt());
+                comment.getModifiedAt(),
+                comment.getVersion());
     }
 
     /*
@@ -400,7 +776,27 @@ Hibernate:
         if (!Objects.equals(comment.getUser().getUserId(), sessionUserId)) {
             throw new UnauthorizedException("본인 댓글만 삭제 가능합니다.");
         }
+        if (!comment.isDeleted()) {    // 이미 삭제된 댓글이면 댓글 수 그대로
+            Schedule schedule = comment.getSchedule();
+            scheduleRepository.addCommentCount(schedule.getScheduleId(), -1);
+            eventPublisher.publishEvent(new ScheduleChangedEvent(
+                    schedule.getUser().getUserId(), schedule.getScheduleId(), ScheduleChangedEvent.Type.COMMENT_COUNT_CHANGED));
+            eventPublisher.publishEvent(new CommentChangedEvent(
+                    CommentStreamMessage.deleted(commentId, schedule.getScheduleId()), CommentChangedEvent.Type.DELETED));
+        }
         comment.softDelete();
 //        commentRepository.save(comment);    // 명시적과 다르다. 걍 중복 행위 Save는 준영속->영속 상태로 바꾸는 것
     }
+
+    private CommentStreamMessage toStreamMessage(Comment comment) {
+        return new CommentStreamMessage(
+                comment.getId(),
+                comment.getSchedule().getScheduleId(),
+                comment.getParentId(),
+                comment.getUser().getUsername(),
+                comment.getComment(),
+                comment.getCreatedAt(),
+                comment.getModifiedAt()
+        );
+    }
 }
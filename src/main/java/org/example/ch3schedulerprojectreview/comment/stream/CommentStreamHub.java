@@ -0,0 +1,332 @@
+package org.example.ch3schedulerprojectreview.comment.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentStreamMessage;
+import org.example.ch3schedulerprojectreview.comment.event.CommentChangedEvent;
+import org.example.ch3schedulerprojectreview.comment.repository.CommentRepository;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.NotFoundException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.ServiceUnavailableException;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+/** 일정별 댓글 실시간 스트림 (Server-Sent Events)
+ * 목록 API를 몇 초마다 폴링하면 구독자 수 x 폴링 횟수만큼 조회 + count 쿼리
+ * -> 접속할 때 밀린 댓글을 한 번 조회하고, 이후에는 커밋된 변경만 메모리에서 밀어줌
+ *    대기 중인 구독자는 DB를 쓰지 않고 메모리(구독자 1명 = SseEmitter + 크기 고정 버퍼)만 차지
+ *
+ * - 구독자마다 크기 buffer-size인 큐. 이벤트는 큐에 넣기만 하고 전송은 전송 스레드가 함
+ *   -> 느린 구독자 하나가 다른 구독자나 댓글 쓰기 요청을 막지 않음
+ * - 큐가 가득 차면(못 따라오는 구독자) 연결을 끊음. 클라이언트는 Last-Event-ID로 다시 접속해서 밀린 댓글부터 받음
+ * - 이벤트 JSON은 변경 1건당 한 번만 만들고 모든 구독자가 같은 바이트를 공유
+ *
+ * 이벤트 종류: comment-created, comment-updated, comment-deleted, backlog-truncated,
+ *   comments-deleted(일정 삭제 -> 이후 연결 종료), comments-restored(일정 복구 -> 목록 API로 다시 조회)
+ * id는 생성 이벤트에만 붙임: "생성 시각_댓글 ID" ex) 2025-01-02T03:04:05.123456_42
+ *   -> 오래된 댓글이 수정되어도 Last-Event-ID가 뒤로 가지 않음
+ * 재접속: 댓글 ID(pooled 시퀀스)는 커밋 순서와 다르므로 생성 시각 기준, resume-overlap만큼 앞에서부터 다시 보냄
+ *   (먼저 생성됐지만 늦게 커밋된 댓글을 놓치지 않도록) -> 클라이언트는 commentId로 중복을 걸러야 함
+ */
+public class CommentStreamHub {
+
+    private static final LocalDateTime NO_POSITION = LocalDateTime.of(1970, 1, 1, 0, 0);    // 처음 접속: 최근 backlog-size개
+
+    private final CommentRepository commentRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int backlogSize;
+    private final int maxSubscribers;
+    private final Duration resumeOverlap;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();    // 일정 ID -> 구독자
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final Counter evictedCounter;
+
+    public CommentStreamHub(
+            CommentRepository commentRepository,
+            ScheduleRepository scheduleRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${comment.stream.timeout:30m}") Duration timeout,
+            @Value("${comment.stream.buffer-size:64}") int bufferSize,
+            @Value("${comment.stream.backlog-size:100}") int backlogSize,
+            @Value("${comment.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${comment.stream.resume-overlap:10s}") Duration resumeOverlap,
+            @Value("${comment.stream.sender-threads:4}") int senderThreads
+    ) {
+        this.commentRepository = commentRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.bufferSize = bufferSize;
+        this.backlogSize = backlogSize;
+        this.maxSubscribers = maxSubscribers;
+        this.resumeOverlap = resumeOverlap;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "comment-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("comment.stream.subscribers", subscriberCount, AtomicInteger::get).register(meterRegistry);
+        this.evictedCounter = Counter.builder("comment.stream.evicted").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    /** 구독 시작
+     * 1. 구독자를 먼저 등록(이후 커밋된 변경은 큐에 쌓임, 아직 전송은 안 함)
+     * 2. position 이후 밀린 댓글 전송 (최근 backlog-size개, 더 있으면 backlog-truncated 먼저 -> 목록 API로 채우면 됨)
+     * 3. 큐 전송 시작. 1~2 사이에 생성되어 밀린 댓글에 이미 포함된 댓글은 전송할 때 건너뜀
+     * position: 마지막으로 받은 이벤트 id("생성 시각_댓글 ID") 또는 댓글 ID(예전 형식). null이면 처음 접속
+     */
+    public SseEmitter subscribe(Long scheduleId, String position) {
+        if (!scheduleRepository.existsByScheduleIdAndDeletedFalse(scheduleId)) {
+            throw new NotFoundException("해당하는 일정이 없습니다.");
+        }
+        LocalDateTime since = resolveSince(position);
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("댓글 스트림 접속자가 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        Subscriber subscriber = new Subscriber(scheduleId, new SseEmitter(timeoutMillis), bufferSize);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(scheduleId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        try {
+            sendBacklog(subscriber, since, position);
+        } catch (IOException | RuntimeException e) {
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return subscriber.emitter;
+        }
+        subscriber.ready = true;
+        scheduleDrain(subscriber);
+        return subscriber.emitter;
+    }
+
+    // 재접속 위치 -> 이 시각 이후에 생성된 댓글부터 (resume-overlap만큼 앞당김)
+    private LocalDateTime resolveSince(String position) {
+        if (position == null || position.isBlank()) {
+            return NO_POSITION;
+        }
+        LocalDateTime createdAt;
+        try {
+            int separator = position.lastIndexOf('_');
+            createdAt = separator > 0
+                    ? LocalDateTime.parse(position.substring(0, separator))
+                    : commentRepository.findCreatedAtById(Long.parseLong(position.trim())).orElse(null);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BadRequestException("Last-Event-ID(after) 형식이 올바르지 않습니다.");
+        }
+        return createdAt == null ? NO_POSITION : createdAt.minus(resumeOverlap);    // 없는 댓글이면 처음 접속과 같게
+    }
+
+    private void sendBacklog(Subscriber subscriber, LocalDateTime since, String position) throws IOException {
+        List<CommentStreamMessage> backlog = new ArrayList<>(commentRepository.findStreamBacklog(
+                subscriber.scheduleId, since, Limit.of(backlogSize)));
+        Collections.reverse(backlog);    // 최근 것부터 읽었으므로 오래된 순으로 뒤집어서 전송
+        if (backlog.size() == backlogSize) {
+            subscriber.emitter.send(SseEmitter.event().name("backlog-truncated").data(position == null ? "" : position));
+        }
+        for (CommentStreamMessage message : backlog) {
+            subscriber.emitter.send(buildEvent(message, CommentChangedEvent.Type.CREATED));
+        }
+        subscriber.backlogIds = backlog.stream().map(CommentStreamMessage::getCommentId).collect(Collectors.toSet());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)    // 기본 phase = AFTER_COMMIT -> 롤백된 댓글은 보내지 않음
+    public void onCommentChanged(CommentChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.getMessage().getScheduleId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> data;
+        try {
+            data = buildEvent(event.getMessage(), event.getType());
+        } catch (RuntimeException e) {
+            log.error("댓글 스트림 이벤트 생성 실패: commentId={}", event.getMessage().getCommentId(), e);
+            return;
+        }
+        Outgoing outgoing = new Outgoing(data,
+                event.getType() == CommentChangedEvent.Type.CREATED ? event.getMessage().getCommentId() : 0L,
+                event.getType() == CommentChangedEvent.Type.CASCADE_DELETED);    // 일정이 삭제됨 -> 보내고 연결 종료
+        targets.forEach(subscriber -> offer(subscriber, outgoing));
+    }
+
+    // 끊긴 연결은 써 보기 전에는 알 수 없으므로 주기적으로 주석 한 줄(: ping)을 보내서 정리
+    @Scheduled(fixedDelayString = "${comment.stream.heartbeat:PT30S}")
+    public void heartbeat() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        Outgoing ping = new Outgoing(SseEmitter.event().comment("ping").build(), 0L, false);
+        subscribers.values().forEach(set -> set.forEach(subscriber -> offer(subscriber, ping)));
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> buildEvent(CommentStreamMessage message, CommentChangedEvent.Type type) {
+        boolean scheduleWide = type == CommentChangedEvent.Type.CASCADE_DELETED
+                || type == CommentChangedEvent.Type.CASCADE_RESTORED;
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(scheduleWide ? Map.of("scheduleId", message.getScheduleId()) : message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(switch (type) {
+                    case CREATED -> "comment-created";
+                    case UPDATED -> "comment-updated";
+                    case DELETED -> "comment-deleted";
+                    case CASCADE_DELETED -> "comments-deleted";
+                    case CASCADE_RESTORED -> "comments-restored";
+                })
+                .data(json, MediaType.APPLICATION_JSON);
+        if (type == CommentChangedEvent.Type.CREATED) {
+            builder.id(eventId(message));
+        }
+        return builder.build();    // 만든 결과는 읽기만 하므로 구독자끼리 공유
+    }
+
+    // 생성 이벤트 id = 재접속 위치
+    static String eventId(CommentStreamMessage message) {
+        return message.getCreatedAt() + "_" + message.getCommentId();
+    }
+
+    private void offer(Subscriber subscriber, Outgoing outgoing) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.queue.offer(outgoing)) {
+            evictedCounter.increment();
+            log.debug("댓글 스트림 구독자 버퍼 초과로 연결 종료: scheduleId={}", subscriber.scheduleId);
+            remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.ready) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // 구독자마다 전송 작업은 동시에 1개만 -> 이벤트 순서 유지
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Outgoing outgoing;
+            while (!subscriber.closed && (outgoing = subscriber.queue.poll()) != null) {
+                if (outgoing.createdCommentId != 0 && subscriber.backlogIds.contains(outgoing.createdCommentId)) {
+                    continue;    // 밀린 댓글로 이미 보냄
+                }
+                subscriber.emitter.send(outgoing.data);
+                if (outgoing.closeAfter) {
+                    remove(subscriber);
+                    subscriber.emitter.complete();
+                }
+            }
+        } catch (IOException | IllegalStateException e) {    // 클라이언트가 끊었거나 이미 완료된 연결
+            remove(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+            if (!subscriber.closed && !subscriber.queue.isEmpty()) {
+                scheduleDrain(subscriber);    // 빠져나오는 사이에 들어온 이벤트
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscriber.closed) {
+            return;
+        }
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return;
+            }
+            subscriber.closed = true;
+        }
+        subscriber.queue.clear();
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.scheduleId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static final class Subscriber {
+
+        private final Long scheduleId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean ready;     // 밀린 댓글 전송이 끝나야 큐 전송 시작
+        private volatile boolean closed;
+        private volatile Set<Long> backlogIds = Set.of();    // 밀린 댓글로 보낸 댓글 ID (전송 시작 후에는 바뀌지 않음)
+
+        private Subscriber(Long scheduleId, SseEmitter emitter, int bufferSize) {
+            this.scheduleId = scheduleId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    // 전송할 이벤트 1건. 같은 변경이면 모든 구독자가 같은 객체를 공유
+    private static final class Outgoing {
+
+        private final Set<ResponseBodyEmitter.DataWithMediaType> data;
+        private final long createdCommentId;    // 생성 이벤트면 댓글 ID, 아니면 0
+        private final boolean closeAfter;        // 보낸 뒤 연결 종료 (일정 삭제)
+
+        private Outgoing(Set<ResponseBodyEmitter.DataWithMediaType> data, long createdCommentId, boolean closeAfter) {
+            this.data = data;
+            this.createdCommentId = createdCommentId;
+            this.closeAfter = closeAfter;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.ch3schedulerprojectreview.common.archive;
+
+/** 보관/정리 대상 테이블 (선언 순서 = 처리 순서)
+ * FK 때문에 참조하는 쪽(comment)부터 처리하고, 아직 참조되는 행은 건너뜀
+ * - comment: 삭제되지 않은 하위 답글이 있으면 건너뜀 (스레드 조회에서 삭제 표시로 남아야 하는 부모)
+ *   하위 = path 범위 (path, subtreeEnd) -> uk_comment_path 인덱스 범위 탐색 (CommentPath.subtreeEnd와 같은 경계)
+ * - schedule: 남은 댓글이 있으면 건너뜀
+ * - user: 남은 일정이나 댓글이 있으면 건너뜀
+ * 건너뛴 행은 참조하는 행이 정리된 뒤 다음 실행에서 처리
+ */
+public enum ArchiveTable {
+
+    COMMENT("comment", "id",
+            "and not exists (select 1 from comment d where d.path > t.path " +
+            "and d.path < concat(left(t.path, char_length(t.path) - 1), '0') and d.deleted = false)"),
+    SCHEDULE("schedule", "schedule_id",
+            "and not exists (select 1 from comment c where c.schedule_id = t.schedule_id)"),
+    USER("user", "user_id",
+            "and not exists (select 1 from schedule s where s.user_id = t.user_id) " +
+            "and not exists (select 1 from comment c where c.user_id = t.user_id)");
+
+    private final String table;
+    private final String idColumn;
+    private final String referencedGuard;
+
+    ArchiveTable(String table, String idColumn, String referencedGuard) {
+        this.table = table;
+        this.idColumn = idColumn;
+        this.referencedGuard = referencedGuard;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getArchiveTable() {
+        return table + "_archive";
+    }
+
+    /** 다음 배치 대상 ID (키셋: 마지막으로 처리한 ID 다음부터 ID 순)
+     * for update skip locked: 대상 행만 잠그고, 사용자 요청이 잡고 있는 행은 기다리지 않고 건너뜀
+     */
+    String selectBatchSql() {
+        return "select t." + idColumn + " from " + table + " t " +
+                "where t.deleted = true and t.modified_at < :cutoff and t." + idColumn + " > :afterId " +
+                referencedGuard + " " +
+                "order by t." + idColumn + " limit :limit for update skip locked";
+    }
+
+    String createArchiveTableSql() {
+        return "create table if not exists " + getArchiveTable() + " like " + table;
+    }
+
+    String copyToArchiveSql() {
+        return "insert into " + getArchiveTable() + " select * from " + table + " where " + idColumn + " in (:ids)";
+    }
+
+    String deleteSql() {
+        return "delete from " + table + " where " + idColumn + " in (:ids)";
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.ch3schedulerprojectreview.common.archive;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+/** 소프트 딜리트된 행 정리 (백그라운드 작업)
+ * 삭제 후 보관 기간(retention)이 지난 행을 원본 테이블에서 빼서 테이블/인덱스 크기를 일정하게 유지
+ * - mode=archive: <테이블>_archive로 복사 후 삭제 / mode=purge: 바로 삭제
+ * - 키셋 배치: ID 순으로 batch-size개씩, 배치마다 짧은 트랜잭션 1번 -> 잠금은 배치 크기만큼만, 잠깐만
+ * - 배치 사이에 pause만큼 쉬고, 1번 실행에 max-batches-per-run 배치까지만 처리(나머지는 다음 실행)
+ * - 테이블마다 마지막으로 읽은 ID를 기억해서 다음 실행은 그 뒤부터 -> 앞쪽 살아 있는 행을 실행마다 다시 읽지 않음
+ *   끝까지 읽으면 처음부터 한 번 더(앞 구간에서 건너뛴 행) 읽고 0으로 되돌림. 서버를 재시작하면 처음부터
+ * 진행 상황: /actuator/metrics/archive.rows, archive.batches, archive.run, archive.last.success
+ *
+ * 보관 테이블은 create table ... like로 만들기 때문에 원본 컬럼이 바뀌면 복사가 실패함
+ * -> 해당 테이블은 실패 로그만 남기고 다음 테이블로 넘어감(원본은 롤백되어 그대로)
+ */
+public class SoftDeleteArchiver {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean archive;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration pause;
+    private final int maxBatchesPerRun;
+
+    private final Map<ArchiveTable, Counter> rowCounters = new EnumMap<>(ArchiveTable.class);
+    private final Map<ArchiveTable, Counter> batchCounters = new EnumMap<>(ArchiveTable.class);
+    private final Timer runTimer;
+    private final AtomicLong lastSuccessEpochSecond = new AtomicLong();
+    private final Map<ArchiveTable, Long> resumeAfter = new EnumMap<>(ArchiveTable.class);    // 다음 실행 시작 ID (스케줄러 스레드만 사용)
+
+    public SoftDeleteArchiver(
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${soft-delete.archiver.enabled:true}") boolean enabled,
+            @Value("${soft-delete.archiver.mode:archive}") String mode,
+            @Value("${soft-delete.archiver.retention:30d}") Duration retention,
+            @Value("${soft-delete.archiver.batch-size:500}") int batchSize,
+            @Value("${soft-delete.archiver.pause:200ms}") Duration pause,
+            @Value("${soft-delete.archiver.max-batches-per-run:200}") int maxBatchesPerRun
+    ) {
+        if (!mode.equals("archive") && !mode.equals("purge")) {
+            throw new IllegalArgumentException("soft-delete.archiver.mode는 archive 또는 purge: " + mode);
+        }
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.archive = mode.equals("archive");
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        for (ArchiveTable table : ArchiveTable.values()) {
+            rowCounters.put(table, Counter.builder("archive.rows")
+                    .tag("table", table.getTable()).tag("mode", mode).register(meterRegistry));
+            batchCounters.put(table, Counter.builder("archive.batches")
+                    .tag("table", table.getTable()).register(meterRegistry));
+        }
+        this.runTimer = Timer.builder("archive.run").register(meterRegistry);
+        Gauge.builder("archive.last.success", lastSuccessEpochSecond, AtomicLong::get)
+                .description("마지막으로 끝까지 실행된 시각(epoch 초)")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createArchiveTables() {
+        if (!enabled || !archive) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ArchiveTable table : ArchiveTable.values()) {
+                entityManager.createNativeQuery(table.createArchiveTableSql()).executeUpdate();
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${soft-delete.archiver.initial-delay:PT5M}",
+            fixedDelayString = "${soft-delete.archiver.interval:PT1H}"    // 이전 실행이 끝난 뒤부터 계산 -> 겹쳐 실행되지 않음
+    )
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        runTimer.record(() -> {
+            boolean completed = true;
+            for (ArchiveTable table : ArchiveTable.values()) {
+                try {
+                    long rows = drain(table, cutoff);
+                    if (rows > 0) {
+                        log.info("소프트 딜리트 정리: {} {}행 ({})", table.getTable(), rows, archive ? "보관" : "삭제");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    completed = false;
+                    log.error("소프트 딜리트 정리 실패: {}", table.getTable(), e);
+                }
+            }
+            if (completed) {
+                lastSuccessEpochSecond.set(System.currentTimeMillis() / 1000);
+            }
+        });
+    }
+
+    // 한 테이블을 배치 단위로 처리. 처리한 행 수 반환
+    private long drain(ArchiveTable table, LocalDateTime cutoff) throws InterruptedException {
+        long total = 0;
+        long afterId = resumeAfter.getOrDefault(table, 0L);
+        boolean fromStart = afterId == 0;
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                long fromId = afterId;
+                List<Long> ids = transactionTemplate.execute(status -> moveBatch(table, cutoff, fromId));
+                int size = ids == null ? 0 : ids.size();
+                if (size > 0) {
+                    total += size;
+                    rowCounters.get(table).increment(size);
+                    batchCounters.get(table).increment();
+                }
+                if (size < batchSize) {    // 끝까지 읽음
+                    afterId = 0;
+                    if (fromStart) {
+                        break;
+                    }
+                    fromStart = true;    // 이전 실행이 중간부터 시작했으면 앞 구간도 이어서 처리
+                } else {
+                    afterId = ids.get(size - 1);
+                }
+                Thread.sleep(pause.toMillis());    // 다른 쓰기 요청과 복제 지연에 여유를 줌
+            }
+        } finally {
+            resumeAfter.put(table, afterId);    // 실패해도 읽은 곳까지는 기억 (롤백된 배치는 다음 실행에서 다시)
+        }
+        return total;
+    }
+
+    private List<Long> moveBatch(ArchiveTable table, LocalDateTime cutoff, long afterId) {
+        List<?> rows = entityManager.createNativeQuery(table.selectBatchSql())
+                .setParameter("cutoff", cutoff)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", batchSize)
+                .getResultList();
+        List<Long> ids = rows.stream().map(id -> ((Number) id).longValue()).toList();
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        if (archive) {
+            entityManager.createNativeQuery(table.copyToArchiveSql()).setParameter("ids", ids).executeUpdate();
+        }
+        entityManager.createNativeQuery(table.deleteSql()).setParameter("ids", ids).executeUpdate();
+        return ids;
+    }
+}
@@ -100,6 +100,16 @@ public class BaseEntity {
     @Column(name = "deleted", nullable = false)
     private boolean deleted = false;
 
+    @Version
+    /** @Version
+     * 낙관적 락(optimistic lock) 버전. 수정할 때마다 JPA가 1씩 올림
+     * UPDATE ... SET version = version + 1 WHERE id = ? AND version = ?
+     * -> 읽은 뒤 다른 트랜잭션이 먼저 수정했으면 0행 수정 -> OptimisticLockingFailureException
+     *    락을 잡지 않고 덮어쓰기(lost update) 방지
+     * ETag(조건부 요청)의 값으로도 사용
+     */
+    private Long version;
+
     public void softDelete() {
         this.deleted = true;
     }
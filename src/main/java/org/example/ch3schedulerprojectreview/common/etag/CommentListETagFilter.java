@@ -0,0 +1,23 @@
+package org.example.ch3schedulerprojectreview.common.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.util.regex.Pattern;
+
+/** 댓글 목록 조회 전용 ETag 필터
+ * 목록은 버전 하나로 표현할 수 없어서 응답 본문 해시(얕은 ETag)로 비교
+ * -> 쿼리는 그대로 실행되지만 본문이 같으면 304로 전송량 절약
+ * 단건 리소스(일정, 내 정보, 댓글 수정)는 @Version 기반 깊은 ETag 사용
+ */
+public class CommentListETagFilter extends ShallowEtagHeaderFilter {
+
+    private static final Pattern COMMENT_LIST_PATH =
+            Pattern.compile("^/(schedules|users)/\\d+/comments$");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !COMMENT_LIST_PATH.matcher(request.getRequestURI()).matches();
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.ch3schedulerprojectreview.common.etag;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/** ETag 생성/비교
+ * 값 = 리소스 ID와 버전(@Version)들을 점으로 이은 강한(strong) ETag. ex) "12.3.1"
+ * 응답 본문을 해시하지 않으므로 본문을 만들지 않고 버전만 조회해서 계산 가능
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Object... parts) {
+        return Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining(".", "\"", "\""));
+    }
+
+    /** If-Match 헤더 검사
+     * 헤더가 없으면 검사하지 않음(true), "*"는 항상 일치
+     * 약한 ETag(W/"...")는 If-Match에서 일치로 보지 않음(RFC 9110 강한 비교)
+     */
+    public static boolean matches(String ifMatch, String current) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** If-Match 헤더 검사 (앞부분만 비교)
+     * 조회 ETag 중 앞쪽 parts(ID, 자기 @Version)만 비교하고 뒤에 붙은 값(작성자 버전 등)은 무시
+     * -> 조회/수정 응답으로 받은 ETag를 그대로 보내면 되고, 본문에만 들어가는 값이 바뀌어도 412가 되지 않음
+     */
+    public static boolean matchesLeading(String ifMatch, Object... parts) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+        String current = of(parts);
+        String prefix = current.substring(0, current.length() - 1) + ".";    // "12.3" -> "12.3.
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(current) || (tag.startsWith(prefix) && tag.endsWith("\""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
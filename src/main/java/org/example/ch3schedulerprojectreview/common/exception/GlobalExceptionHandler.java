@@ -1,9 +1,13 @@
 package org.example.ch3schedulerprojectreview.common.exception;
 
 import jakarta.persistence.EntityNotFoundException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.ConflictException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.NotFoundException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.PreconditionFailedException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.ServiceUnavailableException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.UnauthorizedException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -38,4 +42,37 @@ public class GlobalExceptionHandler {
         map.put("message",c.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT).body(map);
     }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(BadRequestException b) {
+        Map<String,String> map = new HashMap<>();
+        map.put("errorStatus", "BAD REQUEST");
+        map.put("message",b.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(map);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, String>> handlePreconditionFailed(PreconditionFailedException p) {
+        Map<String,String> map = new HashMap<>();
+        map.put("errorStatus", "PRECONDITION FAILED");
+        map.put("message",p.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(map);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<Map<String, String>> handleServiceUnavailable(ServiceUnavailableException s) {
+        Map<String,String> map = new HashMap<>();
+        map.put("errorStatus", "SERVICE UNAVAILABLE");
+        map.put("message",s.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(map);
+    }
+
+    // @Version 검사 실패: 읽은 뒤 커밋 전에 다른 요청이 먼저 수정함
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLock(OptimisticLockingFailureException o) {
+        Map<String,String> map = new HashMap<>();
+        map.put("errorStatus", "CONFLICT");
+        map.put("message","다른 요청에서 먼저 수정되었습니다. 다시 조회한 뒤 시도해 주세요.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(map);
+    }
 }
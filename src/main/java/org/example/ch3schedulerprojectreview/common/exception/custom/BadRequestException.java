@@ -0,0 +1,7 @@
+package org.example.ch3schedulerprojectreview.common.exception.custom;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.ch3schedulerprojectreview.common.exception.custom;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
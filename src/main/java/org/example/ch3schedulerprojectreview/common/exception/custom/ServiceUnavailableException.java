@@ -0,0 +1,7 @@
+package org.example.ch3schedulerprojectreview.common.exception.custom;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.ch3schedulerprojectreview.common.filter.auth;
 
+import org.example.ch3schedulerprojectreview.common.etag.CommentListETagFilter;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,4 +21,15 @@ public class FilterConfig {
 
         return filterRegistrationBean;
     }
+
+    @Bean
+    public FilterRegistrationBean<CommentListETagFilter> commentListETagFilter() {
+        FilterRegistrationBean<CommentListETagFilter> filterRegistrationBean = new FilterRegistrationBean<>();
+        filterRegistrationBean.setFilter(new CommentListETagFilter());
+        // 댓글 목록 GET만 처리(필터 내부에서 경로 검사)
+        filterRegistrationBean.addUrlPatterns("/*");
+        filterRegistrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);    // 로그인 필터 다음
+
+        return filterRegistrationBean;
+    }
 }
@@ -0,0 +1,75 @@
+package org.example.ch3schedulerprojectreview.common.patch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/** JSON Merge Patch (RFC 7386)
+ * 현재 값(요청 DTO 모양)에 patch 문서를 덮어써서 PUT과 같은 요청 DTO로 만든 뒤 같은 검증(@Valid 제약) 적용
+ * - patch에 없는 필드: 그대로
+ * - null: 값 제거
+ * - 객체: 재귀적으로 병합, 그 외(문자열, 숫자, 배열): 통째로 교체
+ * 실제로 바뀐 컬럼만 UPDATE 되는 것은 엔티티의 @DynamicUpdate + 더티 체킹이 담당
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonMergePatcher {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public <T> T apply(T current, JsonNode patch, Class<T> type) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("merge patch 본문은 JSON 객체여야 합니다.");
+        }
+        JsonNode merged = merge(objectMapper.valueToTree(current), patch);
+        T result;
+        try {
+            result = objectMapper.treeToValue(merged, type);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("merge patch 값의 형식이 올바르지 않습니다.");
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(result);
+        if (!violations.isEmpty()) {
+            // 메시지가 여러 개면 필드 이름 순으로 첫 번째
+            ConstraintViolation<T> first = violations.stream()
+                    .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .get();
+            throw new BadRequestException(first.getMessage());
+        }
+        return result;
+    }
+
+    private static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), merge(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
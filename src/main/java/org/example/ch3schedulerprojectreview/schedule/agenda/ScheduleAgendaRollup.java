@@ -0,0 +1,179 @@
+package org.example.ch3schedulerprojectreview.schedule.agenda;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.event.SchedulePeriodChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.entity.ScheduleAgendaRollupState;
+import org.example.ch3schedulerprojectreview.schedule.freebusy.SchedulePeriod;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleAgendaRollupStateRepository;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleDailyRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Slf4j
+@Component
+/** 일정 집계 테이블(schedule_daily_rollup) 관리 (선택 기능)
+ * schedule.agenda.rollup-enabled=true 일 때만 동작하고, 월간 집계 조회도 이 테이블을 읽음
+ * - 일정 변경: 일정을 쓰는 트랜잭션 안(커밋 직전, BEFORE_COMMIT)에서 바뀐 날짜만 반영
+ *   (추가 = upsert +1, 제거 = 그날 하루만 다시 집계) -> 일정 변경과 집계가 함께 커밋되거나 함께 롤백됨
+ * - 보정: 주기적으로 유저 batch-size명씩 GROUP BY 결과로 덮어쓰고 남은 행 삭제 (직접 넣은 데이터 등으로 어긋난 경우)
+ *   시작 시 테이블을 비우지 않음. 전체 보정이 끝나면 schedule_agenda_rollup_state에 기록
+ * - 조회: 그 기록이 있을 때만 이 테이블 사용. 없으면(처음 켠 경우, 첫 보정 전 재시작/실패) 첫 보정이 끝날 때까지 GROUP BY로
+ *   (증분은 그동안에도 반영하지만, 보정 전 일정은 빠져 있으므로 행이 있다고 채워진 것으로 보지 않음)
+ */
+public class ScheduleAgendaRollup {
+
+    private static final String SELECT_USERS_SQL =
+            "select user_id from user where user_id > :afterId order by user_id limit :limit";
+
+    private final ScheduleDailyRollupRepository rollupRepository;
+    private final ScheduleAgendaRollupStateRepository stateRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pause;
+    private volatile boolean ready;    // 전체 보정이 끝나서 조회에 쓸 수 있는지
+
+    public ScheduleAgendaRollup(
+            ScheduleDailyRollupRepository rollupRepository,
+            ScheduleAgendaRollupStateRepository stateRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${schedule.agenda.rollup-enabled:false}") boolean enabled,
+            @Value("${schedule.agenda.reconciler.batch-size:100}") int batchSize,
+            @Value("${schedule.agenda.reconciler.pause:100ms}") Duration pause
+    ) {
+        this.rollupRepository = rollupRepository;
+        this.stateRepository = stateRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);    // REQUIRED: 진행 중인 트랜잭션에 참여
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pause = pause;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 월간 집계 조회에 이 테이블을 써도 되는지 (사용 + 채워져 있음)
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkReady() {
+        if (!enabled) {
+            // 꺼져 있는 동안의 일정 변경은 반영되지 않음 -> 다시 켜면 첫 보정이 끝날 때까지 GROUP BY로
+            transactionTemplate.executeWithoutResult(status -> stateRepository.clear());
+            return;
+        }
+        ready = stateRepository.existsById(ScheduleAgendaRollupState.ID);
+        log.info("일정 집계 테이블: {}", ready ? "사용" : "보정 기록 없음 -> 첫 보정이 끝날 때까지 GROUP BY로 조회");
+    }
+
+    @Scheduled(
+            initialDelayString = "${schedule.agenda.reconciler.initial-delay:PT1M}",
+            fixedDelayString = "${schedule.agenda.reconciler.interval:PT6H}"
+    )
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        long users = 0;
+        long deleted = 0;
+        long afterId = 0;
+        try {
+            while (true) {
+                long fromId = afterId;
+                long[] result = transactionTemplate.execute(status -> reconcileBatch(fromId));    // {유저 수, 마지막 ID, 삭제 행 수}
+                if (result == null || result[0] == 0) {
+                    break;
+                }
+                users += result[0];
+                deleted += result[2];
+                if (result[0] < batchSize) {
+                    break;
+                }
+                afterId = result[1];
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            // 일정 쓰기와 잠금 순서가 달라 교착이 생기면 InnoDB가 한쪽을 롤백 -> 다음 실행에서 다시
+            log.error("일정 집계 보정 실패: afterId={}", afterId, e);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> stateRepository.markReconciled(LocalDateTime.now()));
+        ready = true;
+        log.info("일정 집계 보정: 유저 {}명, 남은 행 {}개 삭제, {}ms",
+                users, deleted, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private long[] reconcileBatch(long afterId) {
+        List<?> rows = entityManager.createNativeQuery(SELECT_USERS_SQL)
+                .setParameter("afterId", afterId)
+                .setParameter("limit", batchSize)
+                .getResultList();
+        List<Long> userIds = rows.stream().map(id -> ((Number) id).longValue()).toList();
+        if (userIds.isEmpty()) {
+            return new long[]{0, afterId, 0};
+        }
+        int deleted = rollupRepository.deleteStaleForUsers(userIds);
+        rollupRepository.reconcileUsers(userIds);
+        return new long[]{userIds.size(), userIds.get(userIds.size() - 1), deleted};
+    }
+
+    /** 일정을 쓰는 트랜잭션의 커밋 직전에 실행 -> 같은 트랜잭션에서 반영
+     * 트랜잭션 밖에서 발행된 경우(fallbackExecution)에는 새 트랜잭션에서 실행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPeriodChanged(SchedulePeriodChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Long userId = event.getUserId();
+        Set<LocalDate> recountDays = new TreeSet<>();
+        for (SchedulePeriod period : event.getRemoved()) {
+            recountDays.add(period.getStart().toLocalDate());
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (SchedulePeriod period : event.getAdded()) {
+                LocalDate day = period.getStart().toLocalDate();
+                if (!recountDays.contains(day)) {    // 다시 집계할 날짜면 추가분도 집계에 포함됨
+                    rollupRepository.increment(userId, day, period.getStart());
+                }
+            }
+            for (LocalDate day : recountDays) {
+                rollupRepository.recount(userId, day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+                rollupRepository.deleteIfEmpty(userId, day);
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (enabled && event.getType() == ScheduleChangedEvent.Type.USER_WITHDRAWN) {
+            transactionTemplate.executeWithoutResult(status -> rollupRepository.deleteAllByUserId(event.getUserId()));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.ch3schedulerprojectreview.schedule.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+@Component
+/** 일정 단건 조회 캐시 (read-through)
+ * key = scheduleId, value = ScheduleResponse (불변 DTO라 그대로 공유)
+ * 최대 max-size 건, 저장 후 ttl이 지나면 만료 -> 놓친 무효화가 있어도 오래된 값이 ttl 이상 남지 않음
+ * 무효화는 ScheduleChangedEvent로 커밋 이후에 해당 일정만 제거
+ *
+ * 메트릭(Micrometer, cache=scheduleResponse)
+ * - cache.gets{result=hit|miss}, cache.evictions, cache.size
+ * -> /actuator/metrics/cache.gets?tag=cache:scheduleResponse
+ */
+public class ScheduleResponseCache {
+
+    public static final String CACHE_NAME = "scheduleResponse";
+
+    private final boolean enabled;
+    private final Cache<Long, ScheduleResponse> cache;
+
+    public ScheduleResponseCache(
+            @Value("${schedule.response-cache.enabled:true}") boolean enabled,
+            @Value("${schedule.response-cache.max-size:10000}") long maxSize,
+            @Value("${schedule.response-cache.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()    // 적중/미스/제거 횟수 기록
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    /** 캐시에 있으면 바로 반환, 없으면 loader로 DB 조회 후 저장
+     * 같은 키를 동시에 조회하면 loader는 한 번만 실행(나머지는 결과를 기다림)
+     * loader가 null을 반환하면(없는 일정) 저장하지 않음
+     * 로딩 중에 무효화가 오면 로딩이 끝난 뒤 제거되므로 오래된 값이 남지 않음
+     */
+    public ScheduleResponse get(Long scheduleId, Supplier<ScheduleResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return cache.get(scheduleId, key -> loader.get());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)    // 기본 phase = AFTER_COMMIT
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.getType()) {
+            // 유저 단위 변경: 응답에 작성자 정보가 들어 있으므로 해당 유저의 일정 전체 제거
+            case USER_WITHDRAWN, USER_UPDATED -> cache.asMap().values()
+                    .removeIf(response -> Objects.equals(response.getUserId(), event.getUserId()));
+            default -> cache.invalidateAll(event.getScheduleIds());
+        }
+    }
+}
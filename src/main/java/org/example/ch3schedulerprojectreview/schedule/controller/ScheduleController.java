@@ -1,14 +1,28 @@
 package org.example.ch3schedulerprojectreview.schedule.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.ch3schedulerprojectreview.common.constants.auth.SessionKey;
+import org.example.ch3schedulerprojectreview.common.patch.JsonMergePatcher;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleAgendaResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleBatchResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleBulkRequest;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleBulkResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleConflictPolicy;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleDeleteRequest;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleExportFormat;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleFreeBusyResponse;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleRequest;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleSaveResult;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleSliceResponse;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleUpdateRequest;
+import org.example.ch3schedulerprojectreview.schedule.service.ScheduleExportService;
+import org.example.ch3schedulerprojectreview.schedule.service.ScheduleImportService;
 import org.example.ch3schedulerprojectreview.schedule.service.ScheduleService;
 import org.example.ch3schedulerprojectreview.user.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,9 +31,19 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,6 +51,11 @@ import org.springframework.web.bind.annotation.*;
 public class ScheduleController {
 
     private final ScheduleService scheduleService;
+    private final ScheduleImportService scheduleImportService;
+    private final ScheduleExportService scheduleExportService;
+
+    private static final String CONFLICTS_HEADER = "X-Schedule-Conflicts";
+    private static final String SHIFTED_HEADER = "X-Schedule-Shifted";
 
 //    public ScheduleController() {
 //
@@ -41,12 +70,43 @@ public class ScheduleController {
     @PostMapping
     public ResponseEntity<ScheduleResponse> save(
             @Valid @RequestBody ScheduleRequest request,
-            HttpServletRequest httpServletRequest    // @SessionAttribute
+            HttpServletRequest httpServletRequest,    // @SessionAttribute
+            @RequestParam(defaultValue = "none") String conflict    // 겹침 처리: none, reject, warn, shift
     ) {
         HttpSession session = httpServletRequest.getSession(false);
         Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
 
-        ScheduleResponse response = scheduleService.save(sessionUserId, request);
+        ScheduleSaveResult result = scheduleService.save(sessionUserId, request, ScheduleConflictPolicy.from(conflict));
+        return withConflictHeaders(ResponseEntity.status(HttpStatus.CREATED), result);
+    }
+
+    // 겹친 일정 ID, 시간 이동 여부를 응답 헤더로 전달 (본문 형식은 그대로 유지)
+    private ResponseEntity<ScheduleResponse> withConflictHeaders(
+            ResponseEntity.BodyBuilder builder,
+            ScheduleSaveResult result
+    ) {
+        if (!result.getConflictScheduleIds().isEmpty()) {
+            builder.header(CONFLICTS_HEADER, result.getConflictScheduleIds().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        }
+        if (result.isShifted()) {
+            builder.header(SHIFTED_HEADER, "true");
+        }
+        builder.eTag(result.getSchedule().toETag());    // 다음 수정 때 If-Match로 사용
+        return builder.body(result.getSchedule());
+    }
+
+    // 일괄 생성 (JSON 배열 또는 NDJSON)
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ScheduleBatchResponse> saveBatch(
+            HttpServletRequest httpServletRequest    // @RequestBody로 한 번에 바인딩하지 않고 본문을 스트림으로 읽음
+    ) throws IOException {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        ScheduleBatchResponse response = scheduleImportService.importSchedules(
+                sessionUserId, httpServletRequest.getInputStream());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -67,17 +127,116 @@ public class ScheduleController {
         return ResponseEntity.ok(responses);
     }
 
+    // 전체 조회 - 커서 방식 (GET /schedules?mode=cursor&after=...)
+    @GetMapping(params = "mode=cursor")    // mode=cursor 파라미터가 있을 때만 매핑. 없으면 기존 페이지 번호 방식
+    public ResponseEntity<ScheduleSliceResponse> findAllMeByCursor(
+            HttpServletRequest httpServletRequest,
+            @RequestParam(required = false) String after,     // 이 커서 이후(더 오래된) 일정
+            @RequestParam(required = false) String before,    // 이 커서 이전(더 최근) 일정
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        ScheduleSliceResponse response = scheduleService.findAllMeByCursor(sessionUserId, after, before, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // 기간 조회 (GET /schedules?from=2025-10-01T00:00&to=2025-11-01T00:00)
+    @GetMapping(params = {"from", "to"})
+    public ResponseEntity<List<ScheduleResponse>> findByWindow(
+            HttpServletRequest httpServletRequest,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        List<ScheduleResponse> responses = scheduleService.findByWindow(sessionUserId, from, to);
+        return ResponseEntity.ok(responses);
+    }
+
+    // 월간 집계 (GET /schedules/agenda?month=2025-10)
+    @GetMapping("/agenda")
+    public ResponseEntity<ScheduleAgendaResponse> findAgenda(
+            HttpServletRequest httpServletRequest,
+            @RequestParam String month
+    ) {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        ScheduleAgendaResponse response = scheduleService.findAgenda(sessionUserId, month);
+        return ResponseEntity.ok(response);
+    }
+
+    // 빈 시간/바쁜 시간 (GET /schedules/freebusy?from=2025-10-01&to=2025-11-01)
+    @GetMapping("/freebusy")
+    public ResponseEntity<ScheduleFreeBusyResponse> findFreeBusy(
+            HttpServletRequest httpServletRequest,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        ScheduleFreeBusyResponse response = scheduleService.findFreeBusy(sessionUserId, from, to);
+        return ResponseEntity.ok(response);
+    }
+
+    // 검색 (GET /schedules/search?q=회의&page=1&size=10) - 제목/내용, 관련도 순
+    @GetMapping("/search")
+    public ResponseEntity<Page<ScheduleResponse>> search(
+            HttpServletRequest httpServletRequest,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        Page<ScheduleResponse> responses = scheduleService.search(sessionUserId, q, PageRequest.of(page - 1, size));
+        return ResponseEntity.ok(responses);
+    }
+
+    // 전체 내보내기 (NDJSON / CSV 스트리밍)
+    @GetMapping("/export")
+    public void export(
+            HttpServletRequest httpServletRequest,
+            HttpServletResponse httpServletResponse,    // 응답 본문을 직접 스트림으로 씀
+            @RequestParam(defaultValue = "ndjson") String format
+    ) throws IOException {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        ScheduleExportFormat exportFormat = ScheduleExportFormat.from(format);
+        httpServletResponse.setContentType(exportFormat.getContentType());
+        httpServletResponse.setCharacterEncoding("UTF-8");
+        httpServletResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"schedules." + exportFormat.getExtension() + "\"");
+        scheduleExportService.export(sessionUserId, exportFormat, httpServletResponse.getWriter());
+    }
+
     // 단건 조회
     @GetMapping("/{scheduleId:\\d+}")    // 숫자가 1개 이상 연속된 문자열만 허용. 그 외 입력 시 404 Not Found 반환 * -> 양날의 검: 정확한 이유가 있다. API를 잘 설계하면 무조건적으로 필요하진 않다. 필요한 상황이 따로 있다. 슬러그...? 방어용...? 낫 파운드가 아니라 클라이언트가 잘못 입력한 거 아니냐 예외 터지는 위치가 콘트롤러보다 앞에서 터지는데 무슨 문제인지 추적이 안 된다(로깅도 안 되어있으면...)
     public ResponseEntity<ScheduleResponse> findMe(     // * 메서드명이 의미가 불명확하다 -> findById
             @PathVariable Long scheduleId,
-            HttpServletRequest httpServletRequest
+            HttpServletRequest httpServletRequest,
+            WebRequest webRequest,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         HttpSession session = httpServletRequest.getSession(false);
         Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
 
+        // If-None-Match: 버전만 조회해서 같으면 본문을 만들지 않고 304 Not Modified
+        // 헤더가 없으면 버전 조회 없이 바로 본문 조회 (캐시 적중 시 DB 조회 0번)
+        if (ifNoneMatch != null) {
+            String eTag = scheduleService.findETag(scheduleId, sessionUserId);
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
         ScheduleResponse response = scheduleService.findMe(scheduleId, sessionUserId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(response.toETag()).body(response);
     }
 
     // 수정
@@ -85,13 +244,33 @@ public class ScheduleController {
     public ResponseEntity<ScheduleResponse> updateMe(
             @PathVariable Long scheduleId,
             HttpServletRequest httpServletRequest,
-            @Valid @RequestBody ScheduleUpdateRequest updateRequest
+            @Valid @RequestBody ScheduleUpdateRequest updateRequest,
+            @RequestParam(defaultValue = "none") String conflict,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch    // 없으면 검사 안 함
     ) {
         HttpSession session = httpServletRequest.getSession(false);
         Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
 
-        ScheduleResponse response = scheduleService.updateMe(scheduleId, sessionUserId, updateRequest);
-        return ResponseEntity.ok(response);
+        ScheduleSaveResult result = scheduleService.updateMe(
+                scheduleId, sessionUserId, updateRequest, ScheduleConflictPolicy.from(conflict), ifMatch);
+        return withConflictHeaders(ResponseEntity.ok(), result);
+    }
+
+    // 부분 수정 (JSON Merge Patch). 본문에 넣은 필드만 변경, null은 값 제거
+    @PatchMapping(value = "/{scheduleId:\\d+}", consumes = {JsonMergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ScheduleResponse> patchMe(
+            @PathVariable Long scheduleId,
+            HttpServletRequest httpServletRequest,
+            @RequestBody JsonNode patch,
+            @RequestParam(defaultValue = "none") String conflict,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        ScheduleSaveResult result = scheduleService.patchMe(
+                scheduleId, sessionUserId, patch, ScheduleConflictPolicy.from(conflict), ifMatch);
+        return withConflictHeaders(ResponseEntity.ok(), result);
     }
 
     // 삭제
@@ -121,4 +300,30 @@ public class ScheduleController {
         scheduleService.restoreById(scheduleId, sessionUserId, deleteRequest);
         return ResponseEntity.ok().build();
     }
+
+    // 일괄 삭제: scheduleIds 또는 기간(from, to)으로 대상 지정
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<ScheduleBulkResponse> bulkDelete(
+            HttpServletRequest httpServletRequest,
+            @Valid @RequestBody ScheduleBulkRequest bulkRequest
+    ) {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        ScheduleBulkResponse response = scheduleService.bulkDelete(sessionUserId, bulkRequest);
+        return ResponseEntity.ok(response);
+    }
+
+    // 일괄 복구
+    @PostMapping("/bulk-restore")
+    public ResponseEntity<ScheduleBulkResponse> bulkRestore(
+            HttpServletRequest httpServletRequest,
+            @Valid @RequestBody ScheduleBulkRequest bulkRequest
+    ) {
+        HttpSession session = httpServletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        ScheduleBulkResponse response = scheduleService.bulkRestore(sessionUserId, bulkRequest);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,34 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+// 하루 집계: 그날 시작하는 일정 수, 가장 이른/늦은 시작 시각
+public class ScheduleAgendaDay {
+
+    private final LocalDate date;
+    private final long count;
+    private final LocalDateTime firstStart;
+    private final LocalDateTime lastStart;
+
+    // JPQL 생성자 표현식(GROUP BY 결과, 집계 테이블)에서 직접 호출. count(s)의 타입이 Long
+    public ScheduleAgendaDay(LocalDate date, Long count, LocalDateTime firstStart, LocalDateTime lastStart) {
+        this.date = date;
+        this.count = count;
+        this.firstStart = firstStart;
+        this.lastStart = lastStart;
+    }
+
+    // 반복 일정 발생 하나를 더한 새 값
+    public ScheduleAgendaDay plus(LocalDateTime start) {
+        return new ScheduleAgendaDay(
+                date,
+                count + 1,
+                firstStart == null || start.isBefore(firstStart) ? start : firstStart,
+                lastStart == null || start.isAfter(lastStart) ? start : lastStart
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Getter;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Getter
+// 월간 집계 응답. 일정이 있는 날만 날짜 순으로 (최대 31건)
+public class ScheduleAgendaResponse {
+
+    @JsonFormat(pattern = "yyyy-MM")
+    private final YearMonth month;
+    private final List<ScheduleAgendaDay> days;
+
+    public ScheduleAgendaResponse(YearMonth month, List<ScheduleAgendaDay> days) {
+        this.month = month;
+        this.days = days;
+    }
+}
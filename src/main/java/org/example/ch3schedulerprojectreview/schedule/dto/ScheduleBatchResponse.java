@@ -0,0 +1,32 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+// 일괄 등록 응답
+public class ScheduleBatchResponse {
+
+    private final int total;
+    private final int created;
+    private final int failed;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String abortedReason;    // 본문 형식 오류로 중간에 멈춘 경우 사유. 그 전 행까지는 반영됨
+    private final List<ScheduleBatchRowResult> results;
+
+    public ScheduleBatchResponse(
+            int total,
+            int created,
+            int failed,
+            String abortedReason,
+            List<ScheduleBatchRowResult> results
+    ) {
+        this.total = total;
+        this.created = created;
+        this.failed = failed;
+        this.abortedReason = abortedReason;
+        this.results = results;
+    }
+}
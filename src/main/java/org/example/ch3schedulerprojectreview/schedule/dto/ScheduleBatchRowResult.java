@@ -0,0 +1,29 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)    // 성공 행은 errors, 실패 행은 scheduleId 생략
+// 일괄 등록 행별 결과
+public class ScheduleBatchRowResult {
+
+    public enum Status {
+        CREATED,
+        FAILED
+    }
+
+    private final int index;    // 요청 본문에서의 순번(0부터)
+    private final Status status;
+    private final Long scheduleId;
+    private final List<String> errors;
+
+    public ScheduleBatchRowResult(int index, Status status, Long scheduleId, List<String> errors) {
+        this.index = index;
+        this.status = status;
+        this.scheduleId = scheduleId;
+        this.errors = errors;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+/** 일괄 삭제/복구 요청
+ * 대상은 scheduleIds 또는 기간(from 이상 to 미만에 시작하는 일정) 중 하나로 지정
+ * 비밀번호는 요청당 1번만 확인
+ */
+public class ScheduleBulkRequest {
+
+    // 비밀번호: 8~16자, 대소문자, 숫자, 특수문자 최소 1개씩 포함 (ScheduleDeleteRequest와 같은 규칙)
+    @Pattern(regexp = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,16}$")
+    @NotBlank(message = "비밀번호는 필수 입력값입니다.")
+    private String password;
+
+    @Size(max = 1000, message = "일정 ID는 한 번에 최대 1000개 입력 가능합니다.")
+    private List<Long> scheduleIds;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime to;
+
+    public boolean hasScheduleIds() {
+        return scheduleIds != null && !scheduleIds.isEmpty();
+    }
+
+    public boolean hasRange() {
+        return from != null || to != null;
+    }
+}
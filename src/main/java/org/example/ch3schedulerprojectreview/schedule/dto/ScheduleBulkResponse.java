@@ -0,0 +1,18 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+// 일괄 삭제/복구 응답. 실제로 상태가 바뀐 일정만 포함(이미 삭제/복구된 일정, 다른 유저 일정은 제외)
+public class ScheduleBulkResponse {
+
+    private final int count;
+    private final List<Long> scheduleIds;
+
+    public ScheduleBulkResponse(List<Long> scheduleIds) {
+        this.count = scheduleIds.size();
+        this.scheduleIds = scheduleIds;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+
+// 일정 생성/수정 시 기존 일정과 시간이 겹칠 때의 처리 방식
+public enum ScheduleConflictPolicy {
+
+    NONE,      // 검사 안 함 (기존 동작)
+    REJECT,    // 409 Conflict로 거절
+    WARN,      // 저장하고 겹치는 일정 ID를 응답 헤더로 알려줌
+    SHIFT;     // 겹치지 않는 가장 가까운 뒤 시간으로 밀어서 저장 (일정 길이 유지)
+
+    public static ScheduleConflictPolicy from(String value) {
+        for (ScheduleConflictPolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 conflict 값입니다. (none, reject, warn, shift)");
+    }
+}
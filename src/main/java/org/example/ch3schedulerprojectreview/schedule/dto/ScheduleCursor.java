@@ -0,0 +1,46 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import lombok.Getter;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+/** 커서(Keyset) 페이지네이션 토큰
+ * 정렬 키 (createdAt, scheduleId)를 하나의 문자열로 묶어 Base64(URL-safe)로 인코딩
+ * 클라이언트는 내부 구조를 몰라도 되는 불투명(opaque) 값으로만 사용
+ */
+public class ScheduleCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long scheduleId;
+
+    public ScheduleCursor(LocalDateTime createdAt, Long scheduleId) {
+        this.createdAt = createdAt;
+        this.scheduleId = scheduleId;
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + scheduleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScheduleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new ScheduleCursor(
+                    LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            // NumberFormatException은 IllegalArgumentException의 하위 타입
+            throw new BadRequestException("유효하지 않은 커서입니다.");
+        }
+    }
+}
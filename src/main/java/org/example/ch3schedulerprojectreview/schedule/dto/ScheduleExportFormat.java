@@ -0,0 +1,29 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import lombok.Getter;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+
+@Getter
+// 일정 내보내기 형식
+public enum ScheduleExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),    // 한 줄에 일정 하나(JSON)
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ScheduleExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ScheduleExportFormat from(String value) {
+        for (ScheduleExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 형식입니다. (ndjson, csv)");
+    }
+}
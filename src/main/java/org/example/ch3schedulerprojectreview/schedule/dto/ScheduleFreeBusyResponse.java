@@ -0,0 +1,25 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+/** 빈 시간/바쁜 시간 응답
+ * bitmap: Base64. 날짜 [from, to) 순서로 하루 12바이트(15분 칸 96개)
+ *         바이트 안에서는 상위 비트부터, 1 = 바쁨
+ */
+public class ScheduleFreeBusyResponse {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final int slotMinutes;
+    private final String bitmap;
+
+    public ScheduleFreeBusyResponse(LocalDate from, LocalDate to, int slotMinutes, String bitmap) {
+        this.from = from;
+        this.to = to;
+        this.slotMinutes = slotMinutes;
+        this.bitmap = bitmap;
+    }
+}
@@ -1,12 +1,16 @@
 package org.example.ch3schedulerprojectreview.schedule.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 public class ScheduleRequest {
@@ -35,6 +39,19 @@ public class ScheduleRequest {
     // 하루종일 일정 여부, true면 날짜 하루
     // private boolean allDay;
 
+    // 반복 규칙(RRULE 일부). ex) FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10. 없으면 단일 일정
+    @Size(max = 200, message = "반복 규칙은 최대 200자 입력 가능합니다.")
+    private String recurrenceRule;
+
+    // 반복 일정에서 제외할 날짜 목록. ex) ["2025-10-03"]
+    @Size(max = 90, message = "제외 날짜는 최대 90개 입력 가능합니다.")
+    private List<LocalDate> exceptionDates;
+
+    // 알림: 시작 몇 분 전(0 ~ 10080 = 7일). 없으면 알림 없음
+    @Min(value = 0, message = "알림은 0분 이상이어야 합니다.")
+    @Max(value = 10080, message = "알림은 최대 7일(10080분) 전까지 가능합니다.")
+    private Integer reminderMinutes;
+
     /** getter -> 어노테이션으로 자동 생성
     public String getTitle() {
         return title;
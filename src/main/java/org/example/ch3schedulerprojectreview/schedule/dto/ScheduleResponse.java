@@ -1,6 +1,9 @@
 package org.example.ch3schedulerprojectreview.schedule.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
+import org.example.ch3schedulerprojectreview.common.etag.ETags;
 
 import java.time.LocalDateTime;
 
@@ -17,6 +20,19 @@ public class ScheduleResponse {
     private final String content;
     private final LocalDateTime startDateTime;
     private final LocalDateTime endDateTime;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)    // 반복 일정만 포함
+    private final String recurrenceRule;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String exceptionDates;    // 제외 날짜(yyyy-MM-dd, 쉼표 구분)
+    @JsonInclude(JsonInclude.Include.NON_NULL)    // 알림을 설정한 일정만 포함
+    private final Integer reminderMinutes;
+    private final long commentCount;    // 삭제되지 않은 댓글 수
+    @JsonIgnore    // ETag 계산용. 본문에는 넣지 않음
+    private final Long version;
+    @JsonIgnore
+    private final Long userVersion;    // 작성자 정보(이름 등)도 본문에 들어가므로 함께 반영
 
     // 생성자: final 필드에 값 넣어주는 메서드
     public ScheduleResponse(
@@ -27,7 +43,15 @@ public class ScheduleResponse {
             String title,
             String content,
             LocalDateTime startDateTime,
-            LocalDateTime endDateTime
+            LocalDateTime endDateTime,
+            LocalDateTime createdAt,
+            LocalDateTime modifiedAt,
+            String recurrenceRule,
+            String exceptionDates,
+            Integer reminderMinutes,
+            long commentCount,
+            Long version,
+            Long userVersion
     ) {
         this.userId = userId;
         this.email = email;
@@ -37,6 +61,40 @@ public class ScheduleResponse {
         this.content = content;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+        this.recurrenceRule = recurrenceRule;
+        this.exceptionDates = exceptionDates;
+        this.reminderMinutes = reminderMinutes;
+        this.commentCount = commentCount;
+        this.version = version;
+        this.userVersion = userVersion;
+    }
+    /** 생성자 파라미터 순서 = ScheduleRepository.RESPONSE_SELECT의 select new 인자 순서
+     * JPQL 생성자 표현식이 이 생성자를 직접 호출하므로 순서/타입 변경 시 함께 수정
+     */
+
+    // 반복 일정의 발생 1건. 시리즈 정보는 그대로 두고 기간만 해당 발생으로 바꾼 복사본
+    public ScheduleResponse withPeriod(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return new ScheduleResponse(
+                userId, email, userName, scheduleId, title, content,
+                startDateTime, endDateTime, createdAt, modifiedAt, recurrenceRule, exceptionDates,
+                reminderMinutes, commentCount, version, userVersion
+        );
+    }
+
+    // 본문과 같은 시점의 버전으로 만든 ETag -> 캐시에서 꺼낸 응답이어도 본문과 ETag가 어긋나지 않음
+    // 앞 두 값(일정 ID, 일정 버전)만 If-Match 비교에 사용 (ETags.matchesLeading)
+    public String toETag() {
+        return eTagOf(scheduleId, version, userVersion, commentCount);
+    }
+
+    /** 조회(If-None-Match)용 표현 ETag: 일정 ID.일정 버전.작성자 버전.댓글 수
+     * 댓글 수는 @Version을 올리지 않고 바뀌므로(댓글 때문에 일정 수정이 409가 되지 않도록) 따로 포함
+     * 수정(If-Match)은 앞 두 값만 비교 -> 댓글이 달려도 일정 수정은 412가 되지 않음
+     */
+    public static String eTagOf(Long scheduleId, Long version, Long userVersion, long commentCount) {
+        return ETags.of(scheduleId, version, userVersion, commentCount);
     }
 
     /** getter -> 어노테이션으로 자동 생성
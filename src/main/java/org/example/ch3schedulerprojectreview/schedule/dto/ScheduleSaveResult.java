@@ -0,0 +1,20 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+// 일정 생성/수정 결과 + 겹침 검사 결과. 본문은 schedule, 나머지는 컨트롤러에서 응답 헤더로 전달
+public class ScheduleSaveResult {
+
+    private final ScheduleResponse schedule;
+    private final List<Long> conflictScheduleIds;    // WARN: 겹치는 일정, SHIFT: 피해 간 일정
+    private final boolean shifted;                    // SHIFT로 시간이 바뀌었는지 여부
+
+    public ScheduleSaveResult(ScheduleResponse schedule, List<Long> conflictScheduleIds, boolean shifted) {
+        this.schedule = schedule;
+        this.conflictScheduleIds = conflictScheduleIds;
+        this.shifted = shifted;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+// 커서 페이지 응답. Page와 달리 전체 개수(count 쿼리) 없이 다음/이전 커서만 제공
+public class ScheduleSliceResponse {
+
+    private final List<ScheduleResponse> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;    // 다음 페이지 요청 시 after 값. 없으면 null
+    private final String prevCursor;    // 이전 페이지 요청 시 before 값. 없으면 null
+
+    public ScheduleSliceResponse(
+            List<ScheduleResponse> content,
+            int size,
+            boolean hasNext,
+            String nextCursor,
+            String prevCursor
+    ) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+}
@@ -7,12 +7,17 @@ import com.fasterxml.jackson.annotation.JsonFormat;
  * 역직렬화: JSON 문자열로 변환 -> 객체로 변환
  */
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 /** @Getter
@@ -24,6 +29,7 @@ import java.time.LocalDateTime;
  * -> 값은 엔티티를 생성하는 시점 또는 비즈니스 로직 메서드를 통해서만 변경 가능
  *    (생성자에서만 초기화)
  */
+@NoArgsConstructor    // JSON 역직렬화용
 public class ScheduleUpdateRequest {
 
     @NotBlank(message = "제목은 필수입니다.")
@@ -53,4 +59,36 @@ public class ScheduleUpdateRequest {
 
     // 하루종일 일정 여부, true면 날짜 하루
     // private boolean allDay;
+
+    // 반복 규칙(RRULE 일부). ex) FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10. 없으면 단일 일정
+    @Size(max = 200, message = "반복 규칙은 최대 200자 입력 가능합니다.")
+    private String recurrenceRule;
+
+    // 반복 일정에서 제외할 날짜 목록. ex) ["2025-10-03"]
+    @Size(max = 90, message = "제외 날짜는 최대 90개 입력 가능합니다.")
+    private List<LocalDate> exceptionDates;
+
+    // 알림: 시작 몇 분 전(0 ~ 10080 = 7일). 없으면 알림 없음
+    @Min(value = 0, message = "알림은 0분 이상이어야 합니다.")
+    @Max(value = 10080, message = "알림은 최대 7일(10080분) 전까지 가능합니다.")
+    private Integer reminderMinutes;
+
+    // PATCH(merge patch)에서 현재 일정 값을 요청 모양으로 만들 때 사용
+    public ScheduleUpdateRequest(
+            String title,
+            String content,
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            String recurrenceRule,
+            List<LocalDate> exceptionDates,
+            Integer reminderMinutes
+    ) {
+        this.title = title;
+        this.content = content;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.recurrenceRule = recurrenceRule;
+        this.exceptionDates = exceptionDates;
+        this.reminderMinutes = reminderMinutes;
+    }
 }
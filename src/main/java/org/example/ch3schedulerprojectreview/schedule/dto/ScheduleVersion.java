@@ -0,0 +1,20 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import lombok.Getter;
+
+@Getter
+// 조건부 요청용 버전 조회 결과 (본문 없이 소유자와 버전만)
+public class ScheduleVersion {
+
+    private final Long userId;
+    private final Long version;
+    private final Long userVersion;
+    private final long commentCount;
+
+    public ScheduleVersion(Long userId, Long version, Long userVersion, long commentCount) {
+        this.userId = userId;
+        this.version = version;
+        this.userVersion = userVersion;
+        this.commentCount = commentCount;
+    }
+}
@@ -7,10 +7,18 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.example.ch3schedulerprojectreview.common.entity.BaseEntity;
+import org.example.ch3schedulerprojectreview.schedule.recurrence.RecurrenceRule;
 import org.example.ch3schedulerprojectreview.user.entity.User;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
 /** Entity
@@ -57,19 +65,55 @@ import java.time.LocalDateTime;
  * : 기본 생성자의 접근 수준을 PROTECTED로 제한. 외부에서 무분별하게 new ...() 방지
  *   PROTECTED : 같은 패키지 또는 자식 클래스만 생성자 호출 가능
  */
-@Table(name = "schedule")    // 엔티티가 매핑될 실제 DB 테이블 이름을 지정
+@Table(
+        name = "schedule",    // 엔티티가 매핑될 실제 DB 테이블 이름을 지정
+        indexes = {
+                @Index(name = "idx_schedule_user_created", columnList = "user_id, deleted, created_at, schedule_id"),
+                @Index(name = "idx_schedule_user_start", columnList = "user_id, deleted, start_date_time, end_date_time"),
+                @Index(name = "idx_schedule_user_end", columnList = "user_id, deleted, end_date_time"),
+                @Index(name = "idx_schedule_user_long", columnList = "user_id, deleted, long_span, start_date_time")
+        }
+)
+/** idx_schedule_user_created
+ * 커서 페이지네이션용 복합 인덱스
+ * WHERE user_id = ? AND NOT deleted 조건 + ORDER BY created_at, schedule_id 정렬을 인덱스 순서 그대로 처리
+ * -> filesort 없이 커서 위치부터 LIMIT 개수만큼만 읽음
+ * idx_schedule_user_start, idx_schedule_user_end
+ * 기간(겹침) 조회용. 시작/종료 시각 중 더 좁은 쪽으로 범위 스캔
+ * idx_schedule_user_start의 end_date_time: 겹침 검사에서 시작 범위를 읽으며 종료 조건까지 인덱스만으로 판단
+ * idx_schedule_user_long
+ * 긴 일정(long_span)만 따로. 겹침 검사의 시작 범위를 SPAN_LIMIT으로 자를 수 있게 함 (ScheduleConflictChecker)
+ */
+@DynamicUpdate
+/** @DynamicUpdate
+ * 기본 UPDATE는 바뀐 필드와 상관없이 모든 컬럼을 SET (content, deleted, end_date_time, ... 전부)
+ * -> 더티 체킹에서 실제로 바뀐 컬럼만 SET 하는 UPDATE를 그때그때 생성
+ *    제목만 바뀌면 UPDATE schedule SET title=?, modified_at=?, version=? WHERE ...
+ * 바뀐 필드가 없으면 UPDATE 자체가 실행되지 않음(버전, modifiedAt도 그대로)
+ */
 public class Schedule extends BaseEntity {
 
+    public static final Duration SPAN_LIMIT = Duration.ofDays(7);    // 이보다 긴 일정 = longSpan
+
     @Id    // 해당 필드가 엔티티의 기본 키(PK)임을 명시
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 500)
     /** @GeneratedValue
      * : 기본 키 값을 DB에서 자동 생성 설정
      *   전략을 안 쓰면 기본값은 AUTO
      *   -> JPA 구현체가 DB 벤더에 맞게 전략 자동 선택
      *      MySQL이면 IDENTITY를, Oracle이면 SEQUENCE를 내부적으로 선택
      *
-     * strategy = GenerationType.IDENTITY
-     * : DB의 AUTO_INCREMENT 기능을 사용하여 PK 값을 자동 증가
+     * strategy = GenerationType.IDENTITY를 쓰지 않는 이유
+     * : IDENTITY는 INSERT를 실행해야 PK를 알 수 있어서 persist 즉시 INSERT 실행
+     *   -> Hibernate가 INSERT를 모아서 보내는 JDBC 배치를 쓸 수 없음(일괄 등록 성능 저하)
+     *
+     * strategy = GenerationType.SEQUENCE + allocationSize = 500 (pooled 옵티마이저)
+     * : 시퀀스에서 500개 단위로 번호를 미리 받아 메모리에서 할당 -> PK를 INSERT 전에 알 수 있음
+     *   MySQL처럼 시퀀스가 없는 DB는 Hibernate가 schedule_seq 테이블로 시퀀스를 흉내냄
+     *   번호 500개마다 시퀀스 테이블 UPDATE 1번
+     *   -> 일괄 등록 청크(schedule.batch.chunk-size)와 jdbc.batch_size(500)에 맞춤: 청크 1개당 시퀀스 왕복 1번
+     *   (서버 재시작 시 받아 둔 번호 중 안 쓴 것은 버려짐 -> ID에 빈 구간이 생길 수 있음)
      */
     private Long scheduleId;
     /** 일정의 고유 식별자 저장 필드
@@ -102,6 +146,36 @@ public class Schedule extends BaseEntity {
     // 일정 종료 날짜 및 시간
     private LocalDateTime endDateTime;
 
+    /** 반복 일정
+     * 시리즈 하나를 한 행으로 저장. start/endDateTime = 첫 발생의 기간
+     * 발생은 저장하지 않고 조회 구간 안에서만 RecurrenceRule로 계산
+     */
+    @Column(length = 200)
+    private String recurrenceRule;    // RRULE 일부. null = 반복 없음
+
+    @Column(length = 1000)
+    private String exceptionDates;    // 제외할 발생 날짜(yyyy-MM-dd, 쉼표 구분)
+
+    private LocalDateTime recurrenceEnd;    // 마지막 발생의 종료 시각(상한). null = 끝없이 반복. 기간 조회에서 끝난 시리즈 제외용
+
+    private Integer reminderMinutes;    // 시작 몇 분 전에 알림. null = 알림 없음 (예약은 schedule_reminder)
+
+    /** 긴 일정: 기간이 SPAN_LIMIT보다 길거나 반복 일정(시리즈 전체가 차지하는 기간은 끝이 없을 수 있음)
+     * 나머지 일정은 "시작이 (start - SPAN_LIMIT, end) 안"이라는 좁은 범위로 겹침을 찾을 수 있음
+     * 기간/반복 규칙이 바뀔 때마다 다시 계산 (refreshSpan)
+     */
+    @Column(nullable = false)
+    private boolean longSpan;
+
+    /** 삭제되지 않은 댓글 수 (비정규화)
+     * 목록에서 일정마다 count(*)를 하지 않도록 일정 행에 보관
+     * 엔티티에서는 바꾸지 않고 ScheduleRepository.addCommentCount(상대값 UPDATE)로만 변경
+     * -> @DynamicUpdate라서 일정 수정 UPDATE에 이 컬럼이 끼지 않음(동시에 달린 댓글 수를 덮어쓰지 않음)
+     * 어긋난 값은 CommentCountReconciler가 주기적으로 바로잡음
+     */
+    @Column(nullable = false)
+    private long commentCount;
+
     public Schedule(
             String title,
             String content,
@@ -114,6 +188,7 @@ public class Schedule extends BaseEntity {
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
         this.user = user;
+        refreshSpan();
     }
 
     public void updateSchedule(
@@ -126,6 +201,52 @@ public class Schedule extends BaseEntity {
         this.content = content;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
+        refreshSpan();
+    }
+
+    // 반복 규칙 변경. 기간이 바뀌면 recurrenceEnd도 다시 계산해야 하므로 updateSchedule 이후에 호출
+    public void applyRecurrence(RecurrenceRule rule, List<LocalDate> exceptionDates) {
+        if (rule == null) {
+            this.recurrenceRule = null;
+            this.exceptionDates = null;
+            this.recurrenceEnd = null;
+            refreshSpan();
+            return;
+        }
+        this.recurrenceRule = rule.getValue();
+        this.exceptionDates = exceptionDates == null || exceptionDates.isEmpty()
+                ? null
+                : exceptionDates.stream().distinct().sorted().map(LocalDate::toString).collect(Collectors.joining(","));
+        LocalDateTime lastStart = rule.lastOccurrenceStart(startDateTime);
+        this.recurrenceEnd = lastStart == null
+                ? null
+                : lastStart.plus(Duration.between(startDateTime, endDateTime));
+        refreshSpan();
+    }
+
+    private void refreshSpan() {
+        this.longSpan = recurrenceRule != null
+                || (startDateTime != null && endDateTime != null
+                    && Duration.between(startDateTime, endDateTime).compareTo(SPAN_LIMIT) > 0);
+    }
+
+    public void applyReminder(Integer reminderMinutes) {
+        this.reminderMinutes = reminderMinutes;
+    }
+
+    public boolean isRecurring() {
+        return recurrenceRule != null;
+    }
+
+    // 쉼표 구분 문자열 -> 날짜 집합 (응답 DTO의 exceptionDates에도 같은 형식 사용)
+    public static Set<LocalDate> parseExceptionDates(String exceptionDates) {
+        if (exceptionDates == null || exceptionDates.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(exceptionDates.split(","))
+                .map(String::trim)
+                .map(LocalDate::parse)
+                .collect(Collectors.toUnmodifiableSet());
     }
     /**
      * 객체지향적 설계 원칙(OOP)에 부합
@@ -0,0 +1,27 @@
+package org.example.ch3schedulerprojectreview.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "schedule_agenda_rollup_state")
+/** 일정 집계 테이블(schedule_daily_rollup) 상태 (행 1개, id = 1)
+ * 행이 있음 = 전체 보정이 한 번 이상 끝났고, 그 뒤로 집계 기능이 계속 켜져 있었음 -> 재시작 후 바로 조회에 사용
+ * 행이 있는지만으로 판단하므로 집계 테이블에 증분만 쌓인 상태(첫 보정 전 재시작)를 채워진 것으로 보지 않음
+ */
+public class ScheduleAgendaRollupState {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime reconciledAt;    // 마지막으로 전체 보정이 끝난 시각
+}
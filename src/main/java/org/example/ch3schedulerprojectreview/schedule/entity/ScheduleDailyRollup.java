@@ -0,0 +1,48 @@
+package org.example.ch3schedulerprojectreview.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(ScheduleDailyRollup.Key.class)
+@Table(name = "schedule_daily_rollup")
+/** 유저별 날짜별 일정 집계 (선택 기능, schedule.agenda.rollup-enabled=true)
+ * 날짜 = 일정 시작 날짜. 단일 일정만 집계(반복 일정은 조회 때 발생을 계산해서 더함)
+ * PK(user_id, agenda_date)로 월 조회는 PK 범위 스캔 -> 일정 수와 무관하게 최대 31행
+ * 갱신은 ScheduleAgendaRollup이 일정을 쓰는 트랜잭션 안에서 해당 날짜만 반영(+ 주기적 보정)
+ */
+public class ScheduleDailyRollup {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Id
+    @Column(name = "agenda_date")
+    private LocalDate agendaDate;
+
+    @Column(nullable = false)
+    private Long scheduleCount;
+
+    private LocalDateTime firstStart;    // 그날 가장 이른 시작 시각
+
+    private LocalDateTime lastStart;     // 그날 가장 늦은 시작 시각
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    // 복합 키 클래스. 필드 이름/타입이 엔티티의 @Id 필드와 같아야 함
+    public static class Key implements Serializable {
+        private Long userId;
+        private LocalDate agendaDate;
+    }
+}
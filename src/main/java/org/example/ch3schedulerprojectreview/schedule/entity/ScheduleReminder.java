@@ -0,0 +1,72 @@
+package org.example.ch3schedulerprojectreview.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "schedule_reminder",
+        indexes = @Index(name = "idx_schedule_reminder_fire", columnList = "fire_at, schedule_id")
+)
+/** 대기 중인 알림 (transactional outbox)
+ * 일정 저장/수정/삭제와 같은 트랜잭션에서 쓰므로 일정 변경과 알림 예약이 항상 함께 커밋/롤백
+ * 일정당 1행(다음에 보낼 알림 1개). 행 삭제 = 알림 취소, 발송 후 다음 발생이 있으면 같은 행을 다시 예약
+ * 서버 재시작 시 이 테이블에서 가까운 알림을 다시 읽어 타이밍 휠에 올림
+ */
+public class ScheduleReminder implements Persistable<Long> {
+
+    @Id
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(name = "fire_at", nullable = false)
+    private LocalDateTime fireAt;    // 알림 보낼 시각 = 발생 시작 - reminderMinutes
+
+    @Column(nullable = false)
+    private LocalDateTime occurrenceStart;    // 알릴 발생의 시작 시각 (반복 일정이면 다음 발생)
+
+    /** PK를 직접 넣는 엔티티라 save() 시 Spring Data가 새 엔티티인지 알 수 없음(merge -> SELECT 1번 더)
+     * 생성자로 만든 객체만 새 엔티티로 보고 persist, 조회/저장 이후에는 false
+     */
+    @Transient
+    private boolean isNew;
+
+    public ScheduleReminder(Long scheduleId, Long userId, LocalDateTime fireAt, LocalDateTime occurrenceStart) {
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.fireAt = fireAt;
+        this.occurrenceStart = occurrenceStart;
+        this.isNew = true;
+    }
+
+    @Override
+    public Long getId() {
+        return scheduleId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void reschedule(LocalDateTime fireAt, LocalDateTime occurrenceStart) {
+        this.fireAt = fireAt;
+        this.occurrenceStart = occurrenceStart;
+    }
+}
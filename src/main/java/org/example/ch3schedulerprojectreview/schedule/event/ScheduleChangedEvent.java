@@ -0,0 +1,38 @@
+package org.example.ch3schedulerprojectreview.schedule.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+/** 일정 변경 이벤트
+ * ScheduleService(생성, 수정, 삭제, 복구), UserService(회원탈퇴, 회원정보 수정), CommentService(댓글 수 변경)에서 발행
+ * 캐시 등 부가 기능은 @TransactionalEventListener로 커밋 이후에만 반영
+ * -> 롤백된 변경이 캐시에 남지 않음
+ */
+public class ScheduleChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        RESTORED,
+        USER_WITHDRAWN,    // 해당 유저의 일정 전체가 대상. scheduleIds = 빈 리스트
+        USER_UPDATED,      // 유저 이름 변경 -> 일정 응답의 작성자 정보가 바뀜. scheduleIds = 빈 리스트
+        COMMENT_COUNT_CHANGED    // 댓글 생성/삭제 -> 일정 응답의 commentCount만 바뀜. userId = 일정 작성자
+    }
+
+    private final Long userId;
+    private final List<Long> scheduleIds;    // 여러 건을 한 번에 처리(일괄 등록 등)한 경우 모두 포함
+    private final Type type;
+
+    public ScheduleChangedEvent(Long userId, Long scheduleId, Type type) {
+        this(userId, scheduleId == null ? List.of() : List.of(scheduleId), type);
+    }
+
+    public ScheduleChangedEvent(Long userId, List<Long> scheduleIds, Type type) {
+        this.userId = userId;
+        this.scheduleIds = List.copyOf(scheduleIds);
+        this.type = type;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.ch3schedulerprojectreview.schedule.event;
+
+import lombok.Getter;
+import org.example.ch3schedulerprojectreview.schedule.freebusy.SchedulePeriod;
+
+import java.util.List;
+
+@Getter
+/** 일정 기간 변경 이벤트 (빈 시간/바쁜 시간 증분 반영용)
+ * removed: 더 이상 차지하지 않는 기간(수정 전 기간, 삭제된 일정)
+ * added: 새로 차지하는 기간(생성, 수정 후 기간, 복구된 일정)
+ * 반복 일정은 조회 시 발생을 계산하므로 포함하지 않음
+ */
+public class SchedulePeriodChangedEvent {
+
+    private final Long userId;
+    private final List<SchedulePeriod> removed;
+    private final List<SchedulePeriod> added;
+
+    public SchedulePeriodChangedEvent(Long userId, List<SchedulePeriod> removed, List<SchedulePeriod> added) {
+        this.userId = userId;
+        this.removed = List.copyOf(removed);
+        this.added = List.copyOf(added);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.ch3schedulerprojectreview.schedule.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+/** 알림 예약(schedule_reminder) 변경 이벤트
+ * ScheduleReminderOutbox가 예약/변경/취소한 일정 ID. 커밋 이후 타이밍 휠에 반영
+ */
+public class ScheduleReminderChangedEvent {
+
+    private final List<Long> scheduleIds;
+
+    public ScheduleReminderChangedEvent(List<Long> scheduleIds) {
+        this.scheduleIds = List.copyOf(scheduleIds);
+    }
+}
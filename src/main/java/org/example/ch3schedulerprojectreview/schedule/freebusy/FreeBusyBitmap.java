@@ -0,0 +1,75 @@
+package org.example.ch3schedulerprojectreview.schedule.freebusy;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/** 날짜 구간 [from, to)의 빈 시간/바쁜 시간 비트맵
+ * 하루 = 15분 칸 96개 = 96비트 = 12바이트. 날짜 순서대로 이어 붙임
+ * 바이트 안에서는 상위 비트부터 (칸 0 = 00:00~00:15 = 첫 바이트의 0x80)
+ * 31일 = 372바이트 -> Base64 496자
+ */
+public class FreeBusyBitmap {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int BYTES_PER_DAY = SLOTS_PER_DAY / 8;
+    private static final int SLOT_SECONDS = SLOT_MINUTES * 60;
+
+    @FunctionalInterface
+    public interface SlotRangeConsumer {
+        void accept(LocalDate day, int fromSlot, int toSlot);    // [fromSlot, toSlot)
+    }
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final byte[] bits;
+
+    public FreeBusyBitmap(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+        this.bits = new byte[(int) ChronoUnit.DAYS.between(from, to) * BYTES_PER_DAY];
+    }
+
+    // 기간이 걸친 칸을 바쁨으로 표시 (구간 밖은 무시)
+    public void mark(LocalDateTime start, LocalDateTime end) {
+        forEachSlotRange(start, end, this::markSlots);
+    }
+
+    public void markSlots(LocalDate day, int fromSlot, int toSlot) {
+        if (day.isBefore(from) || !day.isBefore(to)) {
+            return;
+        }
+        int base = (int) ChronoUnit.DAYS.between(from, day) * SLOTS_PER_DAY;
+        for (int slot = fromSlot; slot < toSlot; slot++) {
+            int bit = base + slot;
+            bits[bit >>> 3] |= (byte) (0x80 >>> (bit & 7));
+        }
+    }
+
+    public String encode() {
+        return Base64.getEncoder().encodeToString(bits);
+    }
+
+    /** 기간 [start, end)를 날짜별 칸 범위로 나눠서 전달
+     * 칸의 일부만 걸쳐도 바쁨. 길이 0인 일정은 시작 시각이 속한 칸 하나
+     */
+    public static void forEachSlotRange(LocalDateTime start, LocalDateTime end, SlotRangeConsumer consumer) {
+        if (end.isBefore(start)) {
+            return;
+        }
+        LocalDate day = start.toLocalDate();
+        LocalDate lastDay = end.equals(start) ? day : end.minusNanos(1).toLocalDate();
+        while (!day.isAfter(lastDay)) {
+            int fromSlot = day.equals(start.toLocalDate()) ? start.toLocalTime().toSecondOfDay() / SLOT_SECONDS : 0;
+            int toSlot = SLOTS_PER_DAY;
+            if (day.equals(end.toLocalDate())) {
+                int endSecond = end.toLocalTime().toSecondOfDay() + (end.getNano() > 0 ? 1 : 0);
+                toSlot = (endSecond + SLOT_SECONDS - 1) / SLOT_SECONDS;    // 올림
+            }
+            consumer.accept(day, fromSlot, Math.max(toSlot, fromSlot + 1));
+            day = day.plusDays(1);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.example.ch3schedulerprojectreview.schedule.freebusy;
+
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.event.SchedulePeriodChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+/** 유저별 빈 시간/바쁜 시간 캐시 (단일 일정만)
+ * 유저마다 날짜 -> 15분 칸 96개의 "겹친 일정 수"를 보관
+ * 일정 수를 세기 때문에 삭제/수정도 해당 기간만 빼고 더하면 됨(다른 일정을 다시 읽지 않음)
+ * 비트맵은 수 > 0 인 칸
+ *
+ * 처음 조회할 때 유저의 단일 일정 기간을 한 번 읽어서 만들고,
+ * 이후에는 SchedulePeriodChangedEvent로 커밋 이후 증분 반영
+ * 최근 사용한 유저 순(LRU)으로 max-users 명까지만 보관
+ * 일정이 있는 날이 max-days-per-user 를 넘거나 단일 일정이 max-periods-per-user 를 넘는 유저는
+ * 캐시하지 않고 "큰 유저"로 기억 -> 조회 구간만 DB 조회
+ * 적재 무효화는 유저 단위: 한 유저의 변경은 그 유저의 적재만 버림
+ */
+public class ScheduleFreeBusyCache {
+
+    private final boolean enabled;
+    private final int maxDaysPerUser;
+    private final int maxPeriodsPerUser;
+    private final Map<Long, UserFreeBusy> cache;
+    private final Map<Long, Boolean> oversized;    // 큰 유저 (LRU, cache와 같은 크기)
+
+    /** 적재 중인 유저별 표식 (ScheduleIntervalCache와 같은 방식)
+     * 적재 시작 시 새 표식을 넣고, 그 유저의 일정 기간이 바뀌면 지움
+     * load 때 표식이 그대로면 DB 조회 도중 그 유저의 변경이 없었던 것 -> 저장. 아니면 버림(반영 누락 방지)
+     */
+    private final Map<Long, Object> loads = new ConcurrentHashMap<>();
+
+    public ScheduleFreeBusyCache(
+            @Value("${schedule.freebusy-cache.enabled:true}") boolean enabled,
+            @Value("${schedule.freebusy-cache.max-users:1000}") int maxUsers,
+            @Value("${schedule.freebusy-cache.max-days-per-user:3660}") int maxDaysPerUser,
+            @Value("${schedule.freebusy-cache.max-periods-per-user:20000}") int maxPeriodsPerUser
+    ) {
+        this.enabled = enabled;
+        this.maxDaysPerUser = maxDaysPerUser;
+        this.maxPeriodsPerUser = maxPeriodsPerUser;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserFreeBusy> eldest) {
+                return size() > maxUsers;
+            }
+        });
+        this.oversized = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 캐시하지 않는 큰 유저 -> 호출자가 조회 구간만 DB 조회
+    public boolean isOversized(Long userId) {
+        return oversized.containsKey(userId);
+    }
+
+    // 적재 쿼리의 최대 행 수. 이만큼 읽히면 큰 유저 (유저 전체 이력을 다 읽지 않음)
+    public int loadLimit() {
+        return maxPeriodsPerUser + 1;
+    }
+
+    // DB 조회 전에 호출해서 받은 표식을 load에 넘기고, 끝나면(실패해도) endLoad
+    public Object beginLoad(Long userId) {
+        Object token = new Object();
+        loads.put(userId, token);
+        return token;
+    }
+
+    public void endLoad(Long userId, Object token) {
+        loads.remove(userId, token);
+    }
+
+    /** 캐시된 칸 수를 비트맵에 복사. 캐시에 없으면 false */
+    public boolean copyTo(Long userId, FreeBusyBitmap bitmap, LocalDate from, LocalDate to) {
+        synchronized (cache) {
+            UserFreeBusy userFreeBusy = cache.get(userId);
+            if (userFreeBusy == null) {
+                return false;
+            }
+            userFreeBusy.copyTo(bitmap, from, to);
+            return true;
+        }
+    }
+
+    /** 유저의 단일 일정 기간 전체(loadLimit 이하)로 만든 값을 저장하고 비트맵에 복사
+     * 한도를 넘으면 큰 유저로 기억하고 false -> 호출자가 조회 구간만 DB 조회
+     */
+    public boolean load(Long userId, List<SchedulePeriod> periods, Object token,
+                        FreeBusyBitmap bitmap, LocalDate from, LocalDate to) {
+        UserFreeBusy userFreeBusy = null;
+        if (periods.size() <= maxPeriodsPerUser) {
+            userFreeBusy = new UserFreeBusy();
+            for (SchedulePeriod period : periods) {
+                userFreeBusy.add(period, 1);
+            }
+        }
+        synchronized (cache) {
+            boolean current = loads.get(userId) == token;
+            if (userFreeBusy == null || userFreeBusy.days() > maxDaysPerUser) {
+                if (current) {
+                    oversized.put(userId, Boolean.TRUE);
+                }
+                return false;
+            }
+            if (current) {
+                cache.put(userId, userFreeBusy);
+            }
+        }
+        userFreeBusy.copyTo(bitmap, from, to);    // 저장하지 못했어도 이번 조회에는 그대로 사용
+        return true;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)    // 기본 phase = AFTER_COMMIT
+    public void onPeriodChanged(SchedulePeriodChangedEvent event) {
+        synchronized (cache) {
+            loads.remove(event.getUserId());
+            if (event.getRemoved().size() > event.getAdded().size()) {
+                oversized.remove(event.getUserId());    // 일정이 줄어드는 변경이면 다음 조회 때 loadLimit행까지만 읽어서 다시 확인
+            }
+            UserFreeBusy userFreeBusy = cache.get(event.getUserId());
+            if (userFreeBusy == null) {
+                return;
+            }
+            event.getRemoved().forEach(period -> userFreeBusy.add(period, -1));
+            event.getAdded().forEach(period -> userFreeBusy.add(period, 1));
+            if (userFreeBusy.days() > maxDaysPerUser) {
+                cache.remove(event.getUserId());
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (event.getType() == ScheduleChangedEvent.Type.USER_WITHDRAWN) {
+            synchronized (cache) {
+                loads.remove(event.getUserId());
+                cache.remove(event.getUserId());
+                oversized.remove(event.getUserId());
+            }
+        }
+    }
+
+    // 유저 한 명의 날짜별 칸 수. cache 락 안에서만 접근
+    private static final class UserFreeBusy {
+
+        private final Map<LocalDate, int[]> counts = new HashMap<>();
+
+        void add(SchedulePeriod period, int delta) {
+            FreeBusyBitmap.forEachSlotRange(period.getStart(), period.getEnd(), (day, fromSlot, toSlot) -> {
+                int[] slots = counts.computeIfAbsent(day, d -> new int[FreeBusyBitmap.SLOTS_PER_DAY]);
+                boolean empty = true;
+                for (int slot = 0; slot < slots.length; slot++) {
+                    if (slot >= fromSlot && slot < toSlot) {
+                        slots[slot] += delta;
+                    }
+                    empty &= slots[slot] <= 0;
+                }
+                if (empty) {
+                    counts.remove(day);    // 일정이 없는 날은 보관하지 않음
+                }
+            });
+        }
+
+        int days() {
+            return counts.size();
+        }
+
+        void copyTo(FreeBusyBitmap bitmap, LocalDate from, LocalDate to) {
+            for (LocalDate day = from; day.isBefore(to); day = day.plusDays(1)) {
+                int[] slots = counts.get(day);
+                if (slots == null) {
+                    continue;
+                }
+                for (int slot = 0; slot < slots.length; slot++) {
+                    if (slots[slot] > 0) {
+                        bitmap.markSlots(day, slot, slot + 1);
+                    }
+                }
+            }
+        }
+    }
+}
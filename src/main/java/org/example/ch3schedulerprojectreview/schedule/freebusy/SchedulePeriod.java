@@ -0,0 +1,18 @@
+package org.example.ch3schedulerprojectreview.schedule.freebusy;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+// 일정 기간 [start, end). 빈 시간/바쁜 시간 계산용 프로젝션 겸 이벤트 값
+public class SchedulePeriod {
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    public SchedulePeriod(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+}
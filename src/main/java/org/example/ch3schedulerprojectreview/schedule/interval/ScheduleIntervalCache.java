@@ -0,0 +1,121 @@
+package org.example.ch3schedulerprojectreview.schedule.interval;
+
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+/** 유저별 일정 구간 인덱스 캐시 (선택 기능)
+ * schedule.interval-cache.enabled=true 일 때만 사용
+ * 최근 사용한 유저 순(LRU)으로 max-users 명까지만 보관
+ * 일정이 max-entries-per-user 건을 넘는 유저는 캐시하지 않고 "큰 유저"로 기억 -> 기간 조회를 DB 구간 쿼리로
+ * 무효화는 유저 단위: 한 유저의 변경은 그 유저의 인덱스/적재만 버림
+ */
+public class ScheduleIntervalCache {
+
+    private final boolean enabled;
+    private final int maxEntriesPerUser;
+    private final Map<Long, ScheduleIntervalIndex> cache;
+    private final Map<Long, Boolean> oversized;    // 큰 유저 (LRU, cache와 같은 크기)
+
+    /** 적재 중인 유저별 표식
+     * 적재 시작 시 새 표식을 넣고, 그 유저의 일정이 바뀌면 지움
+     * put 때 표식이 그대로면 DB 조회 도중 그 유저의 변경이 없었던 것 -> 저장. 아니면 버림(오래된 값 방지)
+     * 다른 유저의 변경은 영향 없음. 크기 = 동시에 적재 중인 유저 수
+     */
+    private final Map<Long, Object> loads = new ConcurrentHashMap<>();
+
+    public ScheduleIntervalCache(
+            @Value("${schedule.interval-cache.enabled:false}") boolean enabled,
+            @Value("${schedule.interval-cache.max-users:1000}") int maxUsers,
+            @Value("${schedule.interval-cache.max-entries-per-user:5000}") int maxEntriesPerUser
+    ) {
+        this.enabled = enabled;
+        this.maxEntriesPerUser = maxEntriesPerUser;
+        // accessOrder = true -> 조회할 때마다 맨 뒤로 이동, 가장 오래 안 쓴 유저부터 제거
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ScheduleIntervalIndex> eldest) {
+                return size() > maxUsers;
+            }
+        });
+        this.oversized = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > maxUsers;
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ScheduleIntervalIndex get(Long userId) {
+        return cache.get(userId);
+    }
+
+    // 일정이 너무 많아 캐시하지 않는 유저 -> 호출자가 구간 쿼리로 조회
+    public boolean isOversized(Long userId) {
+        return oversized.containsKey(userId);
+    }
+
+    // 적재 쿼리의 최대 행 수. 이만큼 읽히면 큰 유저 (유저 전체 이력을 다 읽지 않음)
+    public int loadLimit() {
+        return maxEntriesPerUser + 1;
+    }
+
+    // DB 조회 전에 호출해서 받은 표식을 put에 넘기고, 끝나면(실패해도) endLoad
+    public Object beginLoad(Long userId) {
+        Object token = new Object();
+        loads.put(userId, token);
+        return token;
+    }
+
+    public void endLoad(Long userId, Object token) {
+        loads.remove(userId, token);
+    }
+
+    /** 적재한 일정(loadLimit 이하)으로 인덱스를 만들어 저장하고 반환
+     * loadLimit만큼 읽혔으면 큰 유저로 기억하고 null -> 호출자가 구간 쿼리로 조회
+     */
+    public ScheduleIntervalIndex put(Long userId, List<ScheduleResponse> schedules, Object token) {
+        if (schedules.size() > maxEntriesPerUser) {
+            synchronized (cache) {
+                if (loads.get(userId) == token) {
+                    oversized.put(userId, Boolean.TRUE);
+                }
+            }
+            return null;
+        }
+        ScheduleIntervalIndex index = new ScheduleIntervalIndex(schedules);
+        synchronized (cache) {
+            if (loads.get(userId) == token) {
+                cache.put(userId, index);
+            }
+        }
+        return index;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)    // 기본 phase = AFTER_COMMIT
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        Long userId = event.getUserId();
+        synchronized (cache) {
+            loads.remove(userId);
+            cache.remove(userId);
+            // 큰 유저 표시는 일정이 줄어드는 변경에서만 해제 -> 다음 조회 때 loadLimit행까지만 읽어서 다시 확인
+            if (event.getType() == ScheduleChangedEvent.Type.DELETED
+                    || event.getType() == ScheduleChangedEvent.Type.USER_WITHDRAWN) {
+                oversized.remove(userId);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.ch3schedulerprojectreview.schedule.interval;
+
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.example.ch3schedulerprojectreview.schedule.recurrence.ScheduleOccurrences;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/** 한 유저의 일정 구간 인덱스 (불변)
+ * 시작 시각 기준으로 정렬된 배열을 중위 순회 순서의 이진 트리로 보고,
+ * 각 노드에 "서브트리 안에서 가장 늦은 종료 시각(maxEnd)"을 저장하는 interval tree
+ *
+ * 겹침 조회 [from, to): O(log n + k)
+ * - maxEnd <= from 인 서브트리는 통째로 건너뜀
+ * - 시작 시각 >= to 인 노드부터 오른쪽은 더 볼 필요 없음
+ * 변경이 생기면 새로 만들어 교체(불변 객체라서 읽기 시 락 불필요)
+ * 반복 일정(시리즈)은 트리에 넣지 않고 따로 보관 -> 조회할 때 구간 안의 발생만 계산
+ */
+public class ScheduleIntervalIndex {
+
+    private final ScheduleResponse[] entries;
+    private final LocalDateTime[] maxEnd;
+    private final List<ScheduleResponse> series;
+
+    public ScheduleIntervalIndex(List<ScheduleResponse> schedules) {
+        this.series = schedules.stream()
+                .filter(s -> s.getRecurrenceRule() != null)
+                .toList();
+        this.entries = schedules.stream()
+                .filter(s -> s.getStartDateTime() != null && s.getEndDateTime() != null)
+                .filter(s -> s.getRecurrenceRule() == null)
+                .sorted(Comparator.comparing(ScheduleResponse::getStartDateTime))
+                .toArray(ScheduleResponse[]::new);
+        this.maxEnd = new LocalDateTime[entries.length];
+        build(0, entries.length);
+    }
+
+    public int size() {
+        return entries.length + series.size();
+    }
+
+    // [from, to) 구간과 겹치는 일정을 시작 시각 순으로 반환
+    public List<ScheduleResponse> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<ScheduleResponse> result = new ArrayList<>();
+        search(0, entries.length, from, to, result);
+        return ScheduleOccurrences.merge(result, series, from, to);
+    }
+
+    private LocalDateTime build(int lo, int hi) {
+        if (lo >= hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime max = entries[mid].getEndDateTime();
+        max = later(max, build(lo, mid));
+        max = later(max, build(mid + 1, hi));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private void search(int lo, int hi, LocalDateTime from, LocalDateTime to, List<ScheduleResponse> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (!maxEnd[mid].isAfter(from)) {
+            return;    // 서브트리의 모든 일정이 from 이전에 끝남
+        }
+        search(lo, mid, from, to, result);
+        ScheduleResponse entry = entries[mid];
+        if (!entry.getStartDateTime().isBefore(to)) {
+            return;    // mid와 오른쪽 서브트리는 모두 to 이후에 시작
+        }
+        if (entry.getEndDateTime().isAfter(from)) {
+            result.add(entry);
+        }
+        search(mid + 1, hi, from, to, result);
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        if (b == null) {
+            return a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,282 @@
+package org.example.ch3schedulerprojectreview.schedule.recurrence;
+
+import lombok.Getter;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Getter
+/** 반복 규칙 (RFC 5545 RRULE 일부)
+ * 지원 항목: FREQ(DAILY, WEEKLY, MONTHLY, YEARLY), INTERVAL, COUNT, UNTIL, BYDAY(WEEKLY 전용)
+ * ex) FREQ=WEEKLY;BYDAY=MO,WE,FR;UNTIL=20251231T235959
+ *
+ * 일정(시리즈)은 DB에 한 행만 저장하고, 발생(occurrence)은 조회 구간 안에서만 계산
+ * -> 저장 공간 O(시리즈 수), 조회 비용 O(구간 안의 발생 수)
+ * 구간 시작 전 발생은 하나씩 세지 않고 주기 수를 계산해서 건너뜀
+ */
+public class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY,
+        YEARLY
+    }
+
+    public static final int MAX_COUNT = 1000;
+    private static final int MAX_SKIPPED_PERIODS = 1000;    // 31일, 2월 29일처럼 없는 날짜를 건너뛰는 최대 횟수
+    private static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final String value;             // 저장용 원문(공백 제거, 대문자)
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;            // null = 횟수 제한 없음
+    private final LocalDateTime until;      // null = 종료일 없음
+    private final List<DayOfWeek> byDay;    // 요일 순서(월~일)로 정렬. 없으면 빈 리스트
+
+    private RecurrenceRule(String value, Frequency frequency, int interval, Integer count, LocalDateTime until, List<DayOfWeek> byDay) {
+        this.value = value;
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+    }
+
+    // null 또는 빈 문자열이면 반복 없음(null)
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            return null;
+        }
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        Set<DayOfWeek> byDay = new TreeSet<>();
+        try {
+            for (String part : rule.trim().split(";")) {
+                String[] pair = part.split("=", 2);
+                if (pair.length != 2) {
+                    throw invalid("'" + part + "' 형식이 올바르지 않습니다.");
+                }
+                String value = pair[1].trim();
+                switch (pair[0].trim().toUpperCase()) {
+                    case "FREQ" -> frequency = Frequency.valueOf(value.toUpperCase());
+                    case "INTERVAL" -> interval = Integer.parseInt(value);
+                    case "COUNT" -> count = Integer.parseInt(value);
+                    case "UNTIL" -> until = parseUntil(value.toUpperCase());
+                    case "BYDAY" -> {
+                        for (String day : value.split(",")) {
+                            byDay.add(toDayOfWeek(day.trim().toUpperCase()));
+                        }
+                    }
+                    default -> throw invalid("지원하지 않는 항목입니다: " + pair[0]);
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {    // FREQ/숫자/날짜 형식 오류
+            throw invalid(rule);
+        }
+        if (frequency == null) {
+            throw invalid("FREQ는 필수입니다.");
+        }
+        if (interval < 1) {
+            throw invalid("INTERVAL은 1 이상이어야 합니다.");
+        }
+        if (count != null && (count < 1 || count > MAX_COUNT)) {
+            throw invalid("COUNT는 1~" + MAX_COUNT + " 사이여야 합니다.");
+        }
+        if (count != null && until != null) {
+            throw invalid("COUNT와 UNTIL은 함께 사용할 수 없습니다.");
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw invalid("BYDAY는 FREQ=WEEKLY에서만 사용할 수 있습니다.");
+        }
+        return new RecurrenceRule(rule.trim().toUpperCase(), frequency, interval, count, until, List.copyOf(byDay));
+    }
+
+    /** UNTIL 값 -> 일정 시각과 같은 서버 기준 시각
+     * - yyyyMMdd: 그날 끝까지 포함
+     * - yyyyMMddTHHmmss: 그대로(서버 기준 시각)
+     * - yyyyMMddTHHmmssZ: RFC 5545에서 Z는 UTC -> 서버 시간대로 변환 (Z만 떼면 시차만큼 종료가 밀림)
+     */
+    private static LocalDateTime parseUntil(String value) {
+        if (value.length() == 8) {
+            return LocalDate.parse(value, DateTimeFormatter.BASIC_ISO_DATE).atTime(23, 59, 59);
+        }
+        if (value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), UNTIL_FORMAT)
+                    .atOffset(ZoneOffset.UTC)
+                    .atZoneSameInstant(ZoneId.systemDefault())
+                    .toLocalDateTime();
+        }
+        return LocalDateTime.parse(value, UNTIL_FORMAT);
+    }
+
+    /** [from, to) 구간과 겹치는 발생의 시작 시각 목록
+     * 발생 i의 구간 = [start_i, start_i + duration)
+     * exceptionDates에 해당하는 날짜의 발생은 제외(RFC 5545처럼 COUNT 계산에는 포함)
+     */
+    public List<LocalDateTime> occurrences(
+            LocalDateTime seriesStart,
+            Duration duration,
+            Set<LocalDate> exceptionDates,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        List<LocalDateTime> result = new ArrayList<>();
+        LocalDateTime lowerBound = from.minus(duration);    // 시작이 이 시각 이후여야 from 이후에 끝남
+        long period = firstPeriod(seriesStart, lowerBound);
+        long index = indexOfPeriod(seriesStart, period);
+        if (index < 0) {    // 앞의 발생 수를 계산할 수 없는 경우(월/연 단위 + COUNT) 처음부터
+            period = 0;
+            index = 0;
+        }
+        int skipped = 0;
+        while (true) {
+            List<LocalDateTime> candidates = candidates(seriesStart, period);
+            if (candidates.isEmpty() && ++skipped > MAX_SKIPPED_PERIODS) {
+                return result;
+            }
+            for (LocalDateTime start : candidates) {
+                if (count != null && index >= count) {
+                    return result;
+                }
+                if (until != null && start.isAfter(until)) {
+                    return result;
+                }
+                if (!start.isBefore(to)) {
+                    return result;
+                }
+                index++;
+                if (start.isAfter(lowerBound) && !exceptionDates.contains(start.toLocalDate())) {
+                    result.add(start);
+                }
+            }
+            period++;
+        }
+    }
+
+    /** 시리즈의 마지막 발생 시작 시각. 종료 조건이 없으면 null
+     * DB의 recurrence_end(시리즈 종료 시각) 계산에 사용 -> 기간 조회 시 끝난 시리즈를 인덱스로 제외
+     */
+    public LocalDateTime lastOccurrenceStart(LocalDateTime seriesStart) {
+        if (until != null) {
+            return until;    // 상한값. 정확한 마지막 발생보다 늦을 수 있지만 구간 필터로는 충분
+        }
+        if (count == null) {
+            return null;
+        }
+        LocalDateTime last = seriesStart;
+        long index = 0;
+        int skipped = 0;
+        for (long period = 0; index < count; period++) {
+            List<LocalDateTime> candidates = candidates(seriesStart, period);
+            if (candidates.isEmpty() && ++skipped > MAX_SKIPPED_PERIODS) {
+                break;
+            }
+            for (LocalDateTime start : candidates) {
+                if (index++ >= count) {
+                    break;
+                }
+                last = start;
+            }
+        }
+        return last;
+    }
+
+    // 주기 period(0부터)에 속한 발생 후보. 없는 날짜(2/30 등)는 빈 리스트
+    private List<LocalDateTime> candidates(LocalDateTime seriesStart, long period) {
+        long step = period * interval;
+        switch (frequency) {
+            case DAILY:
+                return List.of(seriesStart.plusDays(step));
+            case WEEKLY:
+                if (byDay.isEmpty()) {
+                    return List.of(seriesStart.plusWeeks(step));
+                }
+                LocalDateTime weekStart = seriesStart.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(step);
+                List<LocalDateTime> days = new ArrayList<>(byDay.size());
+                for (DayOfWeek day : byDay) {
+                    LocalDateTime start = weekStart.plusDays(day.getValue() - 1L);
+                    if (!start.isBefore(seriesStart)) {
+                        days.add(start);
+                    }
+                }
+                return days;
+            case MONTHLY: {
+                LocalDateTime start = seriesStart.plusMonths(step);
+                // plusMonths는 없는 날짜를 말일로 바꿈 -> RFC 5545처럼 건너뜀
+                return start.getDayOfMonth() == seriesStart.getDayOfMonth() ? List.of(start) : List.of();
+            }
+            default: {    // YEARLY
+                LocalDateTime start = seriesStart.plusYears(step);
+                return start.getDayOfMonth() == seriesStart.getDayOfMonth() ? List.of(start) : List.of();
+            }
+        }
+    }
+
+    // lowerBound 직전 주기. 계산 오차를 고려해 한 주기 앞에서 시작(초과분은 반복문에서 걸러짐)
+    private long firstPeriod(LocalDateTime seriesStart, LocalDateTime lowerBound) {
+        if (!lowerBound.isAfter(seriesStart)) {
+            return 0;
+        }
+        ChronoUnit unit = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS;
+            case WEEKLY -> ChronoUnit.WEEKS;
+            case MONTHLY -> ChronoUnit.MONTHS;
+            case YEARLY -> ChronoUnit.YEARS;
+        };
+        LocalDate base = frequency == Frequency.WEEKLY
+                ? seriesStart.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : seriesStart.toLocalDate();
+        return Math.max(0, unit.between(base, lowerBound.toLocalDate()) / interval - 1);
+    }
+
+    // period 이전까지의 발생 수(COUNT 계산용). 건너뛰는 날짜 때문에 계산할 수 없으면 -1
+    private long indexOfPeriod(LocalDateTime seriesStart, long period) {
+        if (period == 0 || count == null) {
+            return 0;    // COUNT가 없으면 몇 번째인지 몰라도 됨
+        }
+        switch (frequency) {
+            case DAILY:
+                return period;
+            case WEEKLY:
+                if (byDay.isEmpty()) {
+                    return period;
+                }
+                return candidates(seriesStart, 0).size() + (period - 1) * byDay.size();
+            default:
+                return -1;
+        }
+    }
+
+    private static DayOfWeek toDayOfWeek(String day) {
+        return switch (day) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw invalid("BYDAY 값이 올바르지 않습니다: " + day);
+        };
+    }
+
+    private static BadRequestException invalid(String detail) {
+        return new BadRequestException("반복 규칙이 올바르지 않습니다. " + detail);
+    }
+}
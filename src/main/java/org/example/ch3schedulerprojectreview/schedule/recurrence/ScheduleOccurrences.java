@@ -0,0 +1,52 @@
+package org.example.ch3schedulerprojectreview.schedule.recurrence;
+
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/** 반복 일정(시리즈) -> 조회 구간 안의 발생 목록
+ * 발생마다 시리즈 응답을 복사하고 기간만 해당 발생으로 바꿈(scheduleId는 시리즈 ID 그대로)
+ */
+public final class ScheduleOccurrences {
+
+    private ScheduleOccurrences() {
+    }
+
+    // 단일 일정(이미 겹침 조건으로 조회된 것) + 시리즈 발생을 시작 시각 순으로 합침
+    public static List<ScheduleResponse> merge(
+            List<ScheduleResponse> singles,
+            List<ScheduleResponse> series,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        if (series.isEmpty()) {
+            return singles;
+        }
+        List<ScheduleResponse> result = new ArrayList<>(singles);
+        for (ScheduleResponse s : series) {
+            result.addAll(expand(s, from, to));
+        }
+        result.sort(Comparator.comparing(ScheduleResponse::getStartDateTime));
+        return result;
+    }
+
+    public static List<ScheduleResponse> expand(ScheduleResponse series, LocalDateTime from, LocalDateTime to) {
+        RecurrenceRule rule = RecurrenceRule.parse(series.getRecurrenceRule());
+        Duration duration = Duration.between(series.getStartDateTime(), series.getEndDateTime());
+        List<ScheduleResponse> result = new ArrayList<>();
+        for (LocalDateTime start : rule.occurrences(
+                series.getStartDateTime(),
+                duration,
+                Schedule.parseExceptionDates(series.getExceptionDates()),
+                from,
+                to)) {
+            result.add(series.withPeriod(start, start.plus(duration)));
+        }
+        return result;
+    }
+}
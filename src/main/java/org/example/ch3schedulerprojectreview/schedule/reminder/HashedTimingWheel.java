@@ -0,0 +1,245 @@
+package org.example.ch3schedulerprojectreview.schedule.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Slf4j
+/** 해시 타이밍 휠 (Varghese & Lauck, Netty HashedWheelTimer와 같은 구조)
+ * 칸(bucket) wheelSize개짜리 원형 배열. 바늘이 tick마다 한 칸씩 돌고, 바늘이 가리킨 칸만 확인
+ * - 등록: 마감 시각 -> 칸 번호(tick & mask)와 남은 바퀴 수 계산 후 칸의 연결 리스트에 추가 O(1)
+ * - 취소: 연결 리스트에서 자기 노드만 뺌 O(1)
+ * - tick 1번: 해당 칸의 항목만 확인(바퀴 수 감소 또는 만료). 전체 항목 수와 무관
+ * 우선순위 큐(O(log n))와 달리 항목이 수백만 개여도 등록/취소 비용이 같음. 대신 정밀도는 tick 단위
+ *
+ * 칸 리스트는 작업 스레드 1개만 건드림 -> 등록/취소는 큐에 넣고 작업 스레드가 다음 tick에 반영(락 없음)
+ * 만료 처리(onExpired)도 작업 스레드에서 호출되므로 오래 걸리는 일은 다른 스레드로 넘겨야 함
+ */
+public class HashedTimingWheel<T> {
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;    // 등록이 몰려도 tick이 밀리지 않도록
+
+    private final long tickMillis;
+    private final Bucket<T>[] wheel;
+    private final int mask;
+    private final Consumer<T> onExpired;
+    private final Queue<Timeout<T>> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private volatile Thread worker;
+    private volatile boolean running;
+    private long startMillis;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, Consumer<T> onExpired) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 1 이상: " + tickMillis);
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize는 2의 거듭제곱: " + wheelSize);    // 나머지 연산 대신 & mask
+        }
+        this.tickMillis = tickMillis;
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket<>();
+        }
+        this.mask = wheelSize - 1;
+        this.onExpired = onExpired;
+    }
+
+    public synchronized void start(String threadName) {
+        if (running) {
+            return;
+        }
+        running = true;
+        startMillis = System.currentTimeMillis();
+        worker = new Thread(this::runWorker, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // 대기 중인 항목 수 (취소되었지만 아직 칸에서 빠지지 않은 항목 제외)
+    public long size() {
+        return pendingCount.get();
+    }
+
+    // 마감 시각(epoch ms)에 onExpired(task) 호출. 이미 지난 시각이면 다음 tick에 호출
+    public Timeout<T> schedule(T task, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(this, task, deadlineMillis);
+        pendingCount.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    private void runWorker() {
+        while (running) {
+            long tickDeadline = startMillis + (tick + 1) * tickMillis;
+            long sleepMillis = tickDeadline - System.currentTimeMillis();
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                    continue;
+                }
+            }
+            removeCancelled();
+            transferAdds();
+            wheel[(int) (tick & mask)].expire(tickDeadline, this);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout<T> timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferAdds() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout<T> timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.PENDING) {
+                continue;    // 칸에 넣기 전에 취소됨
+            }
+            long calculated = Math.max(0, (timeout.deadlineMillis - startMillis) / tickMillis);
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long targetTick = Math.max(calculated, tick);    // 이미 지난 마감은 현재 칸에서 바로 만료
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void expired(Timeout<T> timeout) {
+        if (!timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+            return;
+        }
+        pendingCount.decrementAndGet();
+        try {
+            onExpired.accept(timeout.task);
+        } catch (RuntimeException e) {
+            log.error("타이밍 휠 만료 처리 실패: {}", timeout.task, e);
+        }
+    }
+
+    public static final class Timeout<T> {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedTimingWheel<T> owner;
+        private final T task;
+        private final long deadlineMillis;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private long remainingRounds;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HashedTimingWheel<T> owner, T task, long deadlineMillis) {
+            this.owner = owner;
+            this.task = task;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        public T getTask() {
+            return task;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        public boolean isPending() {
+            return state.get() == PENDING;
+        }
+
+        // 만료 전이면 취소(true). 칸에서 빼는 작업은 작업 스레드가 다음 tick에 처리
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            owner.pendingCount.decrementAndGet();
+            owner.pendingCancels.add(this);
+            return true;
+        }
+    }
+
+    // 칸 하나 = 이중 연결 리스트 (작업 스레드 전용)
+    private static final class Bucket<T> {
+
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire(long tickDeadline, HashedTimingWheel<T> owner) {
+            Timeout<T> timeout = head;
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                if (timeout.state.get() == Timeout.CANCELLED) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadlineMillis <= tickDeadline) {
+                        owner.expired(timeout);
+                    } else {    // 계산상 올 수 없지만, 오면 다음 바퀴로 다시 등록
+                        owner.pendingAdds.add(timeout);
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.bucket != this) {
+                return;    // 이미 빠짐
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.ch3schedulerprojectreview.schedule.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+// 기본 발송 통로: 로그로만 남김 (ReminderSink 빈이 없을 때 사용)
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void send(ReminderNotification notification) {
+        log.info("일정 알림: {}", notification);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.ch3schedulerprojectreview.schedule.reminder;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+// 발송할 알림 1건
+public class ReminderNotification {
+
+    private final Long scheduleId;
+    private final Long userId;
+    private final String email;
+    private final String title;
+    private final LocalDateTime occurrenceStart;    // 알릴 일정(발생)의 시작 시각
+    private final int minutesBefore;
+
+    public ReminderNotification(
+            Long scheduleId,
+            Long userId,
+            String email,
+            String title,
+            LocalDateTime occurrenceStart,
+            int minutesBefore
+    ) {
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.email = email;
+        this.title = title;
+        this.occurrenceStart = occurrenceStart;
+        this.minutesBefore = minutesBefore;
+    }
+
+    @Override
+    public String toString() {
+        return "ReminderNotification{scheduleId=" + scheduleId + ", userId=" + userId +
+                ", title='" + title + "', occurrenceStart=" + occurrenceStart + ", minutesBefore=" + minutesBefore + "}";
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.ch3schedulerprojectreview.schedule.reminder;
+
+/** 알림 발송 통로
+ * 기본은 로그(LoggingReminderSink). 메일/푸시 등은 이 인터페이스를 구현한 빈을 등록하면 기본 대신 사용
+ * 예외를 던지면 발송 실패로 보고 알림을 남겨 두었다가 다음 적재 때 다시 시도(최소 1번 발송)
+ */
+public interface ReminderSink {
+
+    void send(ReminderNotification notification);
+}
@@ -0,0 +1,234 @@
+package org.example.ch3schedulerprojectreview.schedule.reminder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.schedule.entity.ScheduleReminder;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleReminderChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleReminderRepository;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+/** 일정 알림 발송 엔진
+ * 전체 예약은 schedule_reminder(outbox)에 두고, horizon 안에 보낼 알림만 메모리의 타이밍 휠에 올림
+ * -> 예약이 수백만 건이어도 메모리는 가까운 구간만큼, 등록/취소는 O(1)
+ * - 시작 시 + load-interval마다: fire_at < 지금 + horizon 인 예약을 키셋으로 읽어 휠에 등록
+ *   (서버가 꺼져 있던 동안 지난 알림도 여기서 읽혀 바로 발송)
+ * - 일정 저장/수정/삭제 커밋 이후: 바뀐 일정의 예약만 다시 읽어 휠에서 교체/취소
+ * - 만료: 발송 스레드에서 행을 잠그고 예약이 그대로인지 확인 후 발송 -> 다음 발생으로 재예약 또는 삭제
+ *   휠에 오래된 항목이 남아 있어도(취소/변경 반영 전) 이 확인에서 걸러짐
+ * 발송 후 커밋 전에 실패하면 다음 적재 때 다시 보냄(최소 1번 발송)
+ */
+public class ScheduleReminderEngine {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final ScheduleReminderRepository reminderRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final ReminderSink sink;
+    private final TransactionTemplate newTransaction;
+    private final boolean enabled;
+    private final Duration tick;
+    private final Duration horizon;
+    private final HashedTimingWheel<Long> wheel;
+    private final Map<Long, HashedTimingWheel.Timeout<Long>> armed = new ConcurrentHashMap<>();    // 일정 ID -> 휠 항목
+    private final ExecutorService deliveryExecutor;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public ScheduleReminderEngine(
+            ScheduleReminderRepository reminderRepository,
+            ScheduleRepository scheduleRepository,
+            ObjectProvider<ReminderSink> sinkProvider,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${schedule.reminder.enabled:true}") boolean enabled,
+            @Value("${schedule.reminder.tick:1s}") Duration tick,
+            @Value("${schedule.reminder.wheel-size:4096}") int wheelSize,
+            @Value("${schedule.reminder.horizon:30m}") Duration horizon,
+            @Value("${schedule.reminder.delivery-threads:2}") int deliveryThreads
+    ) {
+        this.reminderRepository = reminderRepository;
+        this.scheduleRepository = scheduleRepository;
+        this.sink = sinkProvider.getIfAvailable(LoggingReminderSink::new);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.tick = tick;
+        this.horizon = horizon;
+        this.wheel = new HashedTimingWheel<>(tick.toMillis(), wheelSize, this::onExpired);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "reminder-delivery-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("schedule.reminder.wheel.size", wheel, HashedTimingWheel::size).register(meterRegistry);
+        this.sentCounter = Counter.builder("schedule.reminder.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("schedule.reminder.failed").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        wheel.start("reminder-wheel");
+        loadUpcoming();
+    }
+
+    @PreDestroy
+    public void stop() {
+        wheel.stop();
+        deliveryExecutor.shutdown();
+    }
+
+    // horizon보다 짧은 간격으로 실행해야 다음 구간 알림이 늦지 않음
+    @Scheduled(
+            initialDelayString = "${schedule.reminder.load-interval:PT10M}",
+            fixedDelayString = "${schedule.reminder.load-interval:PT10M}"
+    )
+    public void loadUpcoming() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime upTo = LocalDateTime.now().plus(horizon);
+        LocalDateTime afterFireAt = KEYSET_START;
+        Long afterScheduleId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<ScheduleReminder> reminders = reminderRepository.findDueBefore(
+                    upTo, afterFireAt, afterScheduleId, Limit.of(LOAD_BATCH_SIZE));
+            reminders.forEach(this::arm);
+            loaded += reminders.size();
+            if (reminders.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            ScheduleReminder last = reminders.get(reminders.size() - 1);
+            afterFireAt = last.getFireAt();
+            afterScheduleId = last.getScheduleId();
+        }
+        log.debug("일정 알림 적재: {}건 (휠 대기 {}건)", loaded, wheel.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)    // 기본 phase = AFTER_COMMIT
+    public void onReminderChanged(ScheduleReminderChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Map<Long, ScheduleReminder> reminders = reminderRepository.findAllById(event.getScheduleIds()).stream()
+                .collect(Collectors.toMap(ScheduleReminder::getScheduleId, Function.identity()));
+        for (Long scheduleId : event.getScheduleIds()) {
+            ScheduleReminder reminder = reminders.get(scheduleId);
+            if (reminder == null) {
+                disarm(scheduleId);
+            } else {
+                arm(reminder);
+            }
+        }
+    }
+
+    private void arm(ScheduleReminder reminder) {
+        Long scheduleId = reminder.getScheduleId();
+        if (!reminder.getFireAt().isBefore(LocalDateTime.now().plus(horizon))) {
+            disarm(scheduleId);    // 아직 멀었음 -> 다음 적재 때 올림
+            return;
+        }
+        long deadline = reminder.getFireAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        HashedTimingWheel.Timeout<Long> current = armed.get(scheduleId);
+        if (current != null && current.isPending() && current.getDeadlineMillis() == deadline) {
+            return;    // 이미 같은 시각으로 등록됨
+        }
+        HashedTimingWheel.Timeout<Long> previous = armed.put(scheduleId, wheel.schedule(scheduleId, deadline));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void disarm(Long scheduleId) {
+        HashedTimingWheel.Timeout<Long> timeout = armed.remove(scheduleId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    // 휠 작업 스레드에서 호출 -> DB 작업은 발송 스레드로 넘김
+    private void onExpired(Long scheduleId) {
+        armed.computeIfPresent(scheduleId, (id, timeout) -> timeout.isPending() ? timeout : null);
+        deliveryExecutor.execute(() -> deliver(scheduleId));
+    }
+
+    private void deliver(Long scheduleId) {
+        try {
+            ScheduleReminder next = newTransaction.execute(status -> deliverInTransaction(scheduleId));
+            if (next != null) {
+                arm(next);
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("일정 알림 발송 실패, 다음 적재 때 재시도: scheduleId={}", scheduleId, e);
+        }
+    }
+
+    // 반환값 = 다시 휠에 올릴 예약 (없으면 null)
+    private ScheduleReminder deliverInTransaction(Long scheduleId) {
+        LocalDateTime now = LocalDateTime.now();
+        ScheduleReminder reminder = reminderRepository.findForUpdate(scheduleId).orElse(null);
+        if (reminder == null) {
+            return null;    // 취소됨
+        }
+        if (reminder.getFireAt().isAfter(now.plus(tick))) {
+            return reminder;    // 그 사이 다른 시각으로 바뀜
+        }
+        Schedule schedule = scheduleRepository.findWithUserById(scheduleId).orElse(null);
+        if (schedule == null || schedule.isDeleted() || schedule.getReminderMinutes() == null) {
+            reminderRepository.delete(reminder);
+            return null;
+        }
+        sink.send(new ReminderNotification(
+                scheduleId,
+                schedule.getUser().getUserId(),
+                schedule.getUser().getEmail(),
+                schedule.getTitle(),
+                reminder.getOccurrenceStart(),
+                schedule.getReminderMinutes()));
+        sentCounter.increment();
+
+        // 반복 일정이면 이번 발생 다음 발생으로 재예약 (알림 시각이 이미 지난 발생은 건너뜀)
+        LocalDateTime following = ScheduleReminderOutbox.nextRemindableStart(schedule, reminder.getOccurrenceStart(), now);
+        if (following == null) {
+            reminderRepository.delete(reminder);
+            return null;
+        }
+        reminder.reschedule(ScheduleReminderOutbox.fireAt(following, schedule.getReminderMinutes()), following);
+        return reminder;
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.ch3schedulerprojectreview.schedule.reminder;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.schedule.entity.ScheduleReminder;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleReminderChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.recurrence.RecurrenceRule;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleReminderRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+/** 알림 예약 쓰기 (transactional outbox)
+ * ScheduleService의 트랜잭션 안에서 호출 -> 일정 변경과 알림 예약이 함께 커밋/롤백
+ * 커밋 이후 ScheduleReminderChangedEvent로 타이밍 휠(ScheduleReminderEngine)에 반영
+ */
+public class ScheduleReminderOutbox {
+
+    private static final Duration FIRST_LOOKAHEAD = Duration.ofDays(7);
+    private static final Duration MAX_LOOKAHEAD = Duration.ofDays(3660);    // 이 안에 발생이 없으면 알림 없음
+
+    private final ScheduleReminderRepository reminderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 새 일정: 알림을 설정한 경우만 예약 (알림 없는 일정은 쿼리 없음)
+    public void schedule(Schedule schedule) {
+        scheduleAll(List.of(schedule));
+    }
+
+    // 새 일정 여러 건(일괄 등록 청크): INSERT는 flush 때 JDBC 배치로, 휠 반영 이벤트는 1번
+    public void scheduleAll(Collection<Schedule> schedules) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> scheduleIds = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            LocalDateTime occurrenceStart = nextRemindableStart(schedule, now, now);
+            if (occurrenceStart == null) {
+                continue;
+            }
+            reminderRepository.save(new ScheduleReminder(
+                    schedule.getScheduleId(),
+                    schedule.getUser().getUserId(),
+                    fireAt(occurrenceStart, schedule.getReminderMinutes()),
+                    occurrenceStart));
+            scheduleIds.add(schedule.getScheduleId());
+        }
+        if (!scheduleIds.isEmpty()) {
+            eventPublisher.publishEvent(new ScheduleReminderChangedEvent(scheduleIds));
+        }
+    }
+
+    // 수정/복구된 일정: 현재 값으로 다시 예약 (알림이 없어졌거나 지난 일정이면 취소)
+    public void sync(Schedule schedule) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime occurrenceStart = nextRemindableStart(schedule, now, now);
+        Optional<ScheduleReminder> existing = reminderRepository.findById(schedule.getScheduleId());
+        if (occurrenceStart == null) {
+            if (existing.isEmpty()) {
+                return;
+            }
+            reminderRepository.delete(existing.get());
+        } else {
+            LocalDateTime fireAt = fireAt(occurrenceStart, schedule.getReminderMinutes());
+            existing.ifPresentOrElse(
+                    reminder -> reminder.reschedule(fireAt, occurrenceStart),
+                    () -> reminderRepository.save(new ScheduleReminder(
+                            schedule.getScheduleId(), schedule.getUser().getUserId(), fireAt, occurrenceStart)));
+        }
+        eventPublisher.publishEvent(new ScheduleReminderChangedEvent(List.of(schedule.getScheduleId())));
+    }
+
+    // 삭제된 일정들: 예약 취소 (DELETE 1번)
+    public void cancel(Collection<Long> scheduleIds) {
+        if (scheduleIds.isEmpty()) {
+            return;
+        }
+        if (reminderRepository.deleteAllByScheduleIds(scheduleIds) > 0) {
+            eventPublisher.publishEvent(new ScheduleReminderChangedEvent(List.copyOf(scheduleIds)));
+        }
+    }
+
+    // 회원탈퇴: 해당 유저의 예약 전체 취소. 휠에 남은 항목은 발송 직전 확인에서 걸러짐
+    public void cancelByUser(Long userId) {
+        reminderRepository.deleteAllByUserId(userId);
+    }
+
+    /** after보다 늦게 시작하는 다음 발생의 시작 시각. 알림이 없거나, 삭제되었거나, 남은 발생이 없으면 null
+     * 반복 일정은 가까운 구간부터 구간을 2배씩 넓혀 가며 찾음(매일 반복이면 첫 구간에서 끝남)
+     */
+    public static LocalDateTime nextOccurrenceStart(Schedule schedule, LocalDateTime after) {
+        if (schedule.getReminderMinutes() == null || schedule.isDeleted()) {
+            return null;
+        }
+        if (!schedule.isRecurring()) {
+            return schedule.getStartDateTime().isAfter(after) ? schedule.getStartDateTime() : null;
+        }
+        if (schedule.getRecurrenceEnd() != null && !schedule.getRecurrenceEnd().isAfter(after)) {
+            return null;    // 끝난 시리즈
+        }
+        RecurrenceRule rule = RecurrenceRule.parse(schedule.getRecurrenceRule());
+        for (Duration lookahead = FIRST_LOOKAHEAD;
+             lookahead.compareTo(MAX_LOOKAHEAD) <= 0;
+             lookahead = lookahead.multipliedBy(2)) {
+            List<LocalDateTime> starts = rule.occurrences(
+                    schedule.getStartDateTime(),
+                    Duration.ZERO,    // 시작 시각만 비교 -> after보다 늦게 시작하는 발생
+                    Schedule.parseExceptionDates(schedule.getExceptionDates()),
+                    after,
+                    after.plus(lookahead));
+            if (!starts.isEmpty()) {
+                return starts.get(0);
+            }
+        }
+        return null;
+    }
+
+    /** after보다 늦게 시작하면서 알림 시각(시작 - reminderMinutes)이 now 이후인 다음 발생의 시작 시각
+     * 알림 시각이 이미 지난 발생은 건너뜀 (바로 보내지 않음)
+     * -> 알림 시간보다 늦게 등록한 일정은 다음 발생부터, 반복 간격이 알림 분보다 짧아도 지난 알림이 한꺼번에 나가지 않음
+     */
+    public static LocalDateTime nextRemindableStart(Schedule schedule, LocalDateTime after, LocalDateTime now) {
+        if (schedule.getReminderMinutes() == null) {
+            return null;
+        }
+        LocalDateTime earliest = now.plusMinutes(schedule.getReminderMinutes()).minusNanos(1);    // 시작 >= now + 분
+        return nextOccurrenceStart(schedule, after.isAfter(earliest) ? after : earliest);
+    }
+
+    // 알림 시각 (nextRemindableStart로 고른 발생이면 now 이후)
+    public static LocalDateTime fireAt(LocalDateTime occurrenceStart, int reminderMinutes) {
+        return occurrenceStart.minusMinutes(reminderMinutes);
+    }
+}
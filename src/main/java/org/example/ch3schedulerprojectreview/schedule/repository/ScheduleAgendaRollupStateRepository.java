@@ -0,0 +1,24 @@
+package org.example.ch3schedulerprojectreview.schedule.repository;
+
+import org.example.ch3schedulerprojectreview.schedule.entity.ScheduleAgendaRollupState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ScheduleAgendaRollupStateRepository extends JpaRepository<ScheduleAgendaRollupState, Long> {
+
+    // 전체 보정 완료 기록 (행이 없으면 만들고, 있으면 시각만 갱신. MySQL upsert 1문장)
+    @Modifying
+    @Query(value = "insert into schedule_agenda_rollup_state (id, reconciled_at) values (1, :now) as new " +
+            "on duplicate key update reconciled_at = new.reconciled_at",
+            nativeQuery = true)
+    void markReconciled(@Param("now") LocalDateTime now);
+
+    // 완료 기록 삭제 (집계를 끈 채로 시작 -> 그동안의 일정 변경이 반영되지 않으므로 다시 켜면 보정부터)
+    @Modifying
+    @Query("delete from ScheduleAgendaRollupState s")
+    int clear();
+}
@@ -0,0 +1,93 @@
+package org.example.ch3schedulerprojectreview.schedule.repository;
+
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleAgendaDay;
+import org.example.ch3schedulerprojectreview.schedule.entity.ScheduleDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ScheduleDailyRollupRepository extends JpaRepository<ScheduleDailyRollup, ScheduleDailyRollup.Key> {
+
+    // 월 조회 - PK(user_id, agenda_date) 범위 스캔
+    @Query("select new org.example.ch3schedulerprojectreview.schedule.dto.ScheduleAgendaDay(" +
+            "r.agendaDate, r.scheduleCount, r.firstStart, r.lastStart) " +
+            "from ScheduleDailyRollup r " +
+            "where r.userId = :userId and r.agendaDate >= :from and r.agendaDate < :to " +
+            "order by r.agendaDate")
+    List<ScheduleAgendaDay> findDays(
+            @Param("userId") Long userId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /** 일정 추가: 행이 없으면 만들고, 있으면 수 +1, 최소/최대 시작 시각 갱신 (MySQL upsert 1문장)
+     * 다른 일정을 읽지 않으므로 그날 일정 수와 무관
+     * 넣으려던 값은 행 별칭(as new)으로 참조 (values(col)은 MySQL 8.0.20부터 deprecated)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into schedule_daily_rollup (user_id, agenda_date, schedule_count, first_start, last_start) " +
+            "values (:userId, :agendaDate, 1, :start, :start) as new " +
+            "on duplicate key update schedule_count = schedule_count + 1, " +
+            "first_start = least(first_start, new.first_start), " +
+            "last_start = greatest(last_start, new.last_start)",
+            nativeQuery = true)
+    void increment(
+            @Param("userId") Long userId,
+            @Param("agendaDate") LocalDate agendaDate,
+            @Param("start") LocalDateTime start);
+
+    /** 일정 제거: 최소/최대 시작 시각은 빼기로 알 수 없으므로 그날 하루만 다시 집계해서 덮어씀
+     * (user_id, deleted, start_date_time) 인덱스로 하루 범위만 읽음
+     * 행이 없어도 집계 결과로 만듦(그날 일정이 0개면 count 0 -> deleteIfEmpty로 삭제)
+     * 쓰는 트랜잭션 안에서 호출 -> flushAutomatically로 아직 보내지 않은 일정 변경을 먼저 반영
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into schedule_daily_rollup (user_id, agenda_date, schedule_count, first_start, last_start) " +
+            "select * from (select :userId as u, :agendaDate as d, count(*) as c, " +
+            "                      min(s.start_date_time) as f, max(s.start_date_time) as l from schedule s " +
+            "               where s.user_id = :userId and s.deleted = false and s.recurrence_rule is null " +
+            "                 and s.start_date_time >= :dayStart and s.start_date_time < :dayEnd) agg " +
+            "on duplicate key update schedule_count = agg.c, first_start = agg.f, last_start = agg.l",
+            nativeQuery = true)
+    void recount(
+            @Param("userId") Long userId,
+            @Param("agendaDate") LocalDate agendaDate,
+            @Param("dayStart") LocalDateTime dayStart,
+            @Param("dayEnd") LocalDateTime dayEnd);
+
+    @Modifying
+    @Query("delete from ScheduleDailyRollup r where r.userId = :userId and r.agendaDate = :agendaDate and r.scheduleCount <= 0")
+    void deleteIfEmpty(@Param("userId") Long userId, @Param("agendaDate") LocalDate agendaDate);
+
+    @Modifying
+    @Query("delete from ScheduleDailyRollup r where r.userId = :userId")
+    void deleteAllByUserId(@Param("userId") Long userId);
+
+    /** 보정 1: 유저들의 단일 일정을 날짜별로 GROUP BY 해서 덮어씀 (없는 날짜는 추가)
+     * INSERT ... SELECT는 읽는 일정 행을 잠금 -> 아직 커밋되지 않은 일정 변경이 있으면 그 커밋을 기다린 뒤 집계
+     */
+    @Modifying
+    @Query(value = "insert into schedule_daily_rollup (user_id, agenda_date, schedule_count, first_start, last_start) " +
+            "select * from (select s.user_id as u, date(s.start_date_time) as d, count(*) as c, " +
+            "                      min(s.start_date_time) as f, max(s.start_date_time) as l from schedule s " +
+            "               where s.user_id in (:userIds) and s.deleted = false and s.recurrence_rule is null " +
+            "               group by s.user_id, date(s.start_date_time)) agg " +
+            "on duplicate key update schedule_count = agg.c, first_start = agg.f, last_start = agg.l",
+            nativeQuery = true)
+    void reconcileUsers(@Param("userIds") Collection<Long> userIds);
+
+    // 보정 2: 그날 단일 일정이 하나도 없는데 남아 있는 행 삭제. 반환 = 삭제한 행 수
+    @Modifying
+    @Query(value = "delete r from schedule_daily_rollup r " +
+            "where r.user_id in (:userIds) and not exists (" +
+            "    select 1 from schedule s " +
+            "    where s.user_id = r.user_id and s.deleted = false and s.recurrence_rule is null " +
+            "      and s.start_date_time >= r.agenda_date and s.start_date_time < r.agenda_date + interval 1 day)",
+            nativeQuery = true)
+    int deleteStaleForUsers(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,44 @@
+package org.example.ch3schedulerprojectreview.schedule.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.ch3schedulerprojectreview.schedule.entity.ScheduleReminder;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ScheduleReminderRepository extends JpaRepository<ScheduleReminder, Long> {
+
+    // 발송 직전 확인용. 여러 서버가 같은 알림을 동시에 보내지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from ScheduleReminder r where r.scheduleId = :scheduleId")
+    Optional<ScheduleReminder> findForUpdate(@Param("scheduleId") Long scheduleId);
+
+    /** 타이밍 휠에 올릴 알림 (fire_at < upTo)
+     * 키셋: (fire_at, schedule_id)가 마지막으로 읽은 값보다 큰 행부터 인덱스 순서대로
+     */
+    @Query("select r from ScheduleReminder r where r.fireAt < :upTo " +
+            "and (r.fireAt > :afterFireAt or (r.fireAt = :afterFireAt and r.scheduleId > :afterScheduleId)) " +
+            "order by r.fireAt, r.scheduleId")
+    List<ScheduleReminder> findDueBefore(
+            @Param("upTo") LocalDateTime upTo,
+            @Param("afterFireAt") LocalDateTime afterFireAt,
+            @Param("afterScheduleId") Long afterScheduleId,
+            Limit limit
+    );
+
+    @Modifying
+    @Query("delete from ScheduleReminder r where r.scheduleId in :scheduleIds")
+    int deleteAllByScheduleIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    @Modifying
+    @Query("delete from ScheduleReminder r where r.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
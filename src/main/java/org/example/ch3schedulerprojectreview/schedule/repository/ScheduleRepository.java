@@ -1,15 +1,44 @@
 package org.example.ch3schedulerprojectreview.schedule.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleAgendaDay;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleVersion;
 import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.schedule.freebusy.SchedulePeriod;
+import org.example.ch3schedulerprojectreview.schedule.search.ScheduleSearchDocument;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
+    /** 응답 DTO 프로젝션(생성자 표현식)
+     * 엔티티 대신 ScheduleResponse를 바로 생성 -> schedule + user 조인 한 번으로 끝
+     * 필요한 컬럼만 SELECT 하므로 user.password는 읽지 않음
+     * 영속성 컨텍스트에 엔티티가 올라가지 않아 스냅샷/더티 체킹 비용도 없음
+     * (인터페이스 필드 = public static final 상수 -> @Query에서 문자열 연결로 재사용 가능)
+     */
+    String RESPONSE_SELECT = "select new org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse(" +
+            "u.userId, u.email, u.username, s.scheduleId, s.title, s.content, " +
+            "s.startDateTime, s.endDateTime, s.createdAt, s.modifiedAt, s.recurrenceRule, s.exceptionDates, " +
+            "s.reminderMinutes, s.commentCount, s.version, u.version) " +
+            "from Schedule s join s.user u ";
+
     // 페이징, 정렬 지원
     Page<Schedule> findByUserUserIdAndDeletedFalse(Long userId, Pageable pageable);    // Schedule = 엔티티 클래스. Long = 엔티티의 PK 타입. -> DB 테이블과 1:1 매핑
     /** 최종 SQL
@@ -33,6 +62,293 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 
     // 전체 리스트 조회용
     List<Schedule> findByUserUserIdAndDeletedFalse(Long userId);
+
+    // 단건 조회 (프로젝션)
+    @Query(RESPONSE_SELECT + "where s.scheduleId = :scheduleId and s.deleted = false")
+    Optional<ScheduleResponse> findResponseById(@Param("scheduleId") Long scheduleId);
+    /** 최종 SQL
+     * SELECT u.user_id, u.email, u.username, s.schedule_id, s.title, s.content,
+     *        s.start_date_time, s.end_date_time, s.created_at, s.modified_at,
+     *        s.recurrence_rule, s.exception_dates, s.reminder_minutes, s.comment_count, s.version, u.version
+     * FROM schedule s
+     * JOIN user u ON u.user_id = s.user_id
+     * WHERE s.schedule_id = ? AND NOT s.deleted
+     * -> 쿼리 1번. 지연 로딩으로 user를 다시 조회하지 않음
+     */
+
+    // 버전만 조회 (조건부 요청 ETag 계산용). 숫자 컬럼 4개만 읽음
+    @Query("select new org.example.ch3schedulerprojectreview.schedule.dto.ScheduleVersion(" +
+            "u.userId, s.version, u.version, s.commentCount) " +
+            "from Schedule s join s.user u where s.scheduleId = :scheduleId and s.deleted = false")
+    Optional<ScheduleVersion> findVersionById(@Param("scheduleId") Long scheduleId);
+
+    // 삭제되지 않은 일정인지 (PK 조회 1번)
+    boolean existsByScheduleIdAndDeletedFalse(Long scheduleId);
+
+    // 페이지 조회 (프로젝션)
+    @Query(value = RESPONSE_SELECT + "where s.user.userId = :userId and s.deleted = false",
+            countQuery = "select count(s) from Schedule s where s.user.userId = :userId and s.deleted = false")
+    Page<ScheduleResponse> findResponsesByUserId(@Param("userId") Long userId, Pageable pageable);
+    /** countQuery를 직접 지정 -> user 조인 없이 schedule 인덱스만으로 count
+     * 마지막 페이지처럼 조회 결과가 size보다 적으면 Spring Data가 count 쿼리를 생략
+     */
+
+    // 전체 리스트 조회 (프로젝션) - 구간 인덱스 캐시 적재용. limit = 캐시 한도 + 1 (넘는 유저는 끝까지 읽지 않음)
+    @Query(RESPONSE_SELECT + "where s.user.userId = :userId and s.deleted = false")
+    List<ScheduleResponse> findAllResponsesByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 내보내기용 스트림 조회 (프로젝션)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query(RESPONSE_SELECT + "where s.user.userId = :userId and s.deleted = false " +
+            "order by s.createdAt asc, s.scheduleId asc")
+    Stream<ScheduleResponse> streamAllByUserId(@Param("userId") Long userId);
+    /** fetchSize = Integer.MIN_VALUE
+     * MySQL 드라이버(Connector/J)에서 결과를 한꺼번에 받지 않고 한 행씩 받아오는(row streaming) 설정
+     * 기본값은 결과 전체를 JDBC 드라이버 메모리에 올림 -> 일정이 많으면 힙 사용량 증가
+     * DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않음(detach/clear 불필요)
+     * 정렬은 idx_schedule_user_created 인덱스 순서 그대로 -> 서버 측 filesort(전체 정렬) 없음
+     */
+
+    // 여러 건 조회 (프로젝션) - 검색 결과 페이지 적재용. 순서는 호출한 쪽에서 맞춤
+    @Query(RESPONSE_SELECT + "where s.scheduleId in :scheduleIds and s.deleted = false")
+    List<ScheduleResponse> findResponsesByIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 여러 건 조회 (프로젝션, 삭제 포함) - 댓글 목록 includes용. 기본 모드처럼 삭제된 일정의 댓글도 일정 정보를 보여줌
+    @Query(RESPONSE_SELECT + "where s.scheduleId in :scheduleIds")
+    List<ScheduleResponse> findResponsesByIdsIncludingDeleted(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    String SEARCH_DOCUMENT_SELECT = "select new org.example.ch3schedulerprojectreview.schedule.search.ScheduleSearchDocument(" +
+            "s.scheduleId, s.user.userId, s.title, s.content) from Schedule s ";
+
+    // 검색 색인 증분 반영용. 삭제된 일정은 결과에 없음 -> 색인에서 제거
+    @Query(SEARCH_DOCUMENT_SELECT + "where s.scheduleId in :scheduleIds and s.deleted = false")
+    List<ScheduleSearchDocument> findSearchDocuments(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 검색 색인 재구축용 전체 스트림 (user 조인 없이 schedule 테이블만 읽음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SEARCH_DOCUMENT_SELECT + "where s.deleted = false")
+    Stream<ScheduleSearchDocument> streamAllSearchDocuments();
+
+    // 수정용 단건 조회. 응답에 작성자 정보가 필요하므로 user를 함께 가져옴(쿼리 1번)
+    @Query("select s from Schedule s join fetch s.user where s.scheduleId = :scheduleId")
+    Optional<Schedule> findWithUserById(@Param("scheduleId") Long scheduleId);
+
+    // 삭제되지 않은 여러 건 + 작성자 (댓글 일괄 저장용, 쿼리 1번)
+    @Query("select s from Schedule s join fetch s.user where s.scheduleId in :scheduleIds and s.deleted = false")
+    List<Schedule> findAllWithUserByIds(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    /** 일괄 삭제/복구 대상 조회 (select ... for update)
+     * 대상 행을 잠가서 이후 UPDATE까지 다른 요청이 같은 일정을 바꾸지 못하게 함
+     * -> 여기서 읽은 기간으로 만든 이벤트(빈 시간, 일별 집계)와 실제 UPDATE 결과가 항상 일치
+     * deleted = 현재 상태 (삭제 대상은 false, 복구 대상은 true)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Schedule s where s.user.userId = :userId and s.deleted = :deleted and s.scheduleId in :scheduleIds")
+    List<Schedule> findBulkTargetsByIds(
+            @Param("userId") Long userId,
+            @Param("deleted") boolean deleted,
+            @Param("scheduleIds") Collection<Long> scheduleIds
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Schedule s where s.user.userId = :userId and s.deleted = :deleted " +
+            "and s.startDateTime >= :from and s.startDateTime < :to order by s.startDateTime")
+    List<Schedule> findBulkTargetsByStart(
+            @Param("userId") Long userId,
+            @Param("deleted") boolean deleted,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Limit limit
+    );
+
+    /** 일괄 소프트 딜리트/복구: UPDATE 1번
+     * 벌크 UPDATE는 엔티티를 거치지 않으므로 @Version, @LastModifiedDate를 직접 갱신
+     * clearAutomatically: 영속 컨텍스트에 남은 대상 엔티티(변경 전 값) 제거
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Schedule s set s.deleted = :deleted, s.version = s.version + 1, s.modifiedAt = :now " +
+            "where s.user.userId = :userId and s.scheduleId in :scheduleIds")
+    int updateDeletedByIds(
+            @Param("userId") Long userId,
+            @Param("scheduleIds") Collection<Long> scheduleIds,
+            @Param("deleted") boolean deleted,
+            @Param("now") LocalDateTime now
+    );
+
+    // 회원탈퇴: 유저의 남은 일정 전체 소프트 딜리트 (일정을 읽지 않고 UPDATE 1번)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Schedule s set s.deleted = true, s.version = s.version + 1, s.modifiedAt = :now " +
+            "where s.user.userId = :userId and s.deleted = false")
+    int softDeleteAllByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /** 댓글 수 상대값 변경: UPDATE schedule SET comment_count = comment_count + ? WHERE schedule_id = ?
+     * 읽고-계산하고-쓰기가 아니라 DB가 현재 값에 더함 -> 동시에 댓글이 달려도 값을 잃지 않음
+     * @Version, modifiedAt은 그대로(일정 내용이 바뀐 것이 아님)
+     * 같은 일정 행을 잠그므로 댓글 INSERT보다 먼저 호출(INSERT의 FK 검사 공유 잠금과 교착 방지)
+     * 삭제된 일정은 0행 -> 댓글 생성에서 존재 확인을 겸함 (삭제된 일정 댓글 수는 복구 시 다시 계산)
+     */
+    @Modifying
+    @Query("update Schedule s set s.commentCount = s.commentCount + :delta " +
+            "where s.scheduleId = :scheduleId and s.deleted = false")
+    int addCommentCount(@Param("scheduleId") Long scheduleId, @Param("delta") long delta);
+
+    /** 댓글 수만 조회 (영속 컨텍스트를 거치지 않는 스칼라 조회)
+     * 같은 트랜잭션에서 addCommentCount 다음에 호출하면 행 잠금 이후의 최신 값 + 이번 변경분
+     */
+    @Query("select s.commentCount from Schedule s where s.scheduleId = :scheduleId")
+    long findCommentCountById(@Param("scheduleId") Long scheduleId);
+
+    /** comment_count를 실제 댓글 수(삭제 제외)로 다시 계산: UPDATE 1번. 반환 = 값이 달라서 수정한 일정 수
+     * 댓글 일괄 삭제/복구 직후, 보정 작업(CommentCountReconciler)에서 사용
+     * 세는 동안 끼어든 댓글이 빠지지 않도록 대상 일정 행을 먼저 잠근 뒤 호출
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update schedule s " +
+            "left join (select c.schedule_id, count(*) as cnt from comment c " +
+            "           where c.schedule_id in (:scheduleIds) and c.deleted = false group by c.schedule_id) c " +
+            "on c.schedule_id = s.schedule_id " +
+            "set s.comment_count = coalesce(c.cnt, 0) " +
+            "where s.schedule_id in (:scheduleIds) and s.comment_count <> coalesce(c.cnt, 0)",
+            nativeQuery = true)
+    int recountComments(@Param("scheduleIds") Collection<Long> scheduleIds);
+
+    // 기간 조회 - [from, to) 구간과 겹치는 단일 일정
+    @Query(RESPONSE_SELECT +
+            "where s.user.userId = :userId and s.deleted = false and s.recurrenceRule is null " +
+            "and s.startDateTime < :to and s.endDateTime > :from " +
+            "order by s.startDateTime asc")
+    List<ScheduleResponse> findOverlapping(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+    /** 겹침 조건: 시작 < to AND 종료 > from
+     * (user_id, deleted, start_date_time) / (user_id, deleted, end_date_time) 두 인덱스 중
+     * 옵티마이저가 더 좁은 범위를 골라 스캔
+     * - 최근 기간 조회: end_date_time > from 범위가 좁음(앞으로 끝나는 일정만)
+     * - 과거 기간 조회: start_date_time < to 범위가 좁음
+     * -> 유저의 전체 이력을 훑지 않음
+     */
+
+    // 기간 조회 - [from, to) 구간에 발생이 있을 수 있는 반복 일정(시리즈)
+    @Query(RESPONSE_SELECT +
+            "where s.user.userId = :userId and s.deleted = false and s.longSpan = true and s.recurrenceRule is not null " +
+            "and s.startDateTime < :to and (s.recurrenceEnd is null or s.recurrenceEnd > :from)")
+    List<ScheduleResponse> findSeriesOverlapping(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+    /** 시리즈 = 행 1개. 첫 발생이 to 이전에 시작하고, 마지막 발생이 from 이후에 끝나는 것만
+     * 실제 발생은 서비스에서 구간 안에서만 계산(ScheduleOccurrences)
+     * 시리즈는 모두 long_span -> idx_schedule_user_long으로 유저의 긴 일정만 읽음(단일 일정 이력을 훑지 않음)
+     */
+
+    // 빈 시간/바쁜 시간 캐시 적재용 - 단일 일정의 기간만 (user 조인 없음). limit = 캐시 한도 + 1 (넘는 유저는 끝까지 읽지 않음)
+    @Query("select new org.example.ch3schedulerprojectreview.schedule.freebusy.SchedulePeriod(s.startDateTime, s.endDateTime) " +
+            "from Schedule s where s.user.userId = :userId and s.deleted = false and s.recurrenceRule is null")
+    List<SchedulePeriod> findSinglePeriodsByUserId(@Param("userId") Long userId, Limit limit);
+
+    // 월간 집계 - 시작 날짜별 일정 수, 가장 이른/늦은 시작 시각 (GROUP BY 1번)
+    @Query("select new org.example.ch3schedulerprojectreview.schedule.dto.ScheduleAgendaDay(" +
+            "cast(s.startDateTime as LocalDate), count(s), min(s.startDateTime), max(s.startDateTime)) " +
+            "from Schedule s " +
+            "where s.user.userId = :userId and s.deleted = false and s.recurrenceRule is null " +
+            "and s.startDateTime >= :from and s.startDateTime < :to " +
+            "group by cast(s.startDateTime as LocalDate) " +
+            "order by cast(s.startDateTime as LocalDate)")
+    List<ScheduleAgendaDay> aggregateDays(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+    /** 최종 SQL
+     * SELECT cast(s.start_date_time as date), count(s.schedule_id), min(s.start_date_time), max(s.start_date_time)
+     * FROM schedule s
+     * WHERE s.user_id = ? AND NOT s.deleted AND s.recurrence_rule IS NULL
+     *   AND s.start_date_time >= ? AND s.start_date_time < ?
+     * GROUP BY cast(s.start_date_time as date)
+     * -> (user_id, deleted, start_date_time) 인덱스로 한 달 범위만 읽음. 응답은 최대 31행
+     */
+
+    // 겹침 검사 - 긴 일정이 아닌 단일 일정 중 [start, end)와 겹치는 것, 종료 시각이 늦은 순서로 limit건
+    @Query("select s from Schedule s " +
+            "where s.user.userId = :userId and s.deleted = false and s.scheduleId <> :excludeId " +
+            "and s.startDateTime > :startFloor and s.startDateTime < :end and s.endDateTime > :start " +
+            "and s.longSpan = false " +
+            "order by s.endDateTime desc")
+    List<Schedule> findConflicts(
+            @Param("userId") Long userId,
+            @Param("excludeId") Long excludeId,
+            @Param("startFloor") LocalDateTime startFloor,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            Limit limit);
+    /** startFloor = start - Schedule.SPAN_LIMIT
+     * 긴 일정이 아니면 기간 <= SPAN_LIMIT이라 start 이후에 끝나려면 startFloor 이후에 시작해야 함
+     * -> idx_schedule_user_start (user_id, deleted, start_date_time, end_date_time)에서
+     *    시작 범위 (startFloor, end)만 읽고 종료 조건도 인덱스에서 판단. 유저의 이력 크기와 상관없이 좁은 범위
+     */
+
+    // 겹침 검사 - 긴 일정(SPAN_LIMIT 초과 단일 일정 + 반복 시리즈) 후보. 시리즈는 서비스에서 발생을 계산해서 판단
+    @Query("select s from Schedule s " +
+            "where s.user.userId = :userId and s.deleted = false and s.longSpan = true and s.scheduleId <> :excludeId " +
+            "and s.startDateTime < :end " +
+            "and ((s.recurrenceRule is null and s.endDateTime > :start) " +
+            "  or (s.recurrenceRule is not null and (s.recurrenceEnd is null or s.recurrenceEnd > :start)))")
+    List<Schedule> findLongConflictCandidates(
+            @Param("userId") Long userId,
+            @Param("excludeId") Long excludeId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+    // idx_schedule_user_long (user_id, deleted, long_span, start_date_time) -> 유저의 긴 일정만 읽음
+
+    // 커서 페이지네이션 - 첫 페이지
+    @Query(RESPONSE_SELECT +
+            "where s.user.userId = :userId and s.deleted = false " +
+            "order by s.createdAt desc, s.scheduleId desc")
+    List<ScheduleResponse> findFirstSliceByUserId(@Param("userId") Long userId, Limit limit);
+    /** OFFSET, COUNT 없이 LIMIT만 사용
+     * 반환 타입이 List라서 Spring Data가 count 쿼리를 만들지 않음
+     * 조회 개수는 size + 1 -> 1건이 더 있으면 다음 페이지 존재
+     */
+
+    // 커서 페이지네이션 - 커서 이후(더 오래된) 일정
+    @Query(RESPONSE_SELECT +
+            "where s.user.userId = :userId and s.deleted = false " +
+            "and (s.createdAt < :createdAt or (s.createdAt = :createdAt and s.scheduleId < :scheduleId)) " +
+            "order by s.createdAt desc, s.scheduleId desc")
+    List<ScheduleResponse> findSliceAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("scheduleId") Long scheduleId,
+            Limit limit);
+    /** 최종 SQL
+     * SELECT u.user_id, u.email, u.username, s.schedule_id, ... (프로젝션)
+     * FROM schedule s
+     * JOIN user u ON u.user_id = s.user_id
+     * WHERE s.user_id = ? AND NOT s.deleted
+     *   AND (s.created_at < ? OR (s.created_at = ? AND s.schedule_id < ?))
+     * ORDER BY s.created_at DESC, s.schedule_id DESC
+     * LIMIT ?
+     * -> (user_id, deleted, created_at, schedule_id) 인덱스를 커서 위치부터 바로 탐색
+     *    페이지가 깊어져도 앞 페이지를 건너뛰는 비용(OFFSET)이 없음
+     */
+
+    // 커서 페이지네이션 - 커서 이전(더 최근) 일정. 오름차순으로 가져온 뒤 서비스에서 뒤집음
+    @Query(RESPONSE_SELECT +
+            "where s.user.userId = :userId and s.deleted = false " +
+            "and (s.createdAt > :createdAt or (s.createdAt = :createdAt and s.scheduleId > :scheduleId)) " +
+            "order by s.createdAt asc, s.scheduleId asc")
+    List<ScheduleResponse> findSliceBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("scheduleId") Long scheduleId,
+            Limit limit);
 }
 /** 인터페이스로 선언된 이유:
  * JpaRepository 기능 상속을 받음으로써 기본 메서드를 자동 제공받아 메서드 직접 구현할 필요 X
@@ -0,0 +1,20 @@
+package org.example.ch3schedulerprojectreview.schedule.search;
+
+import lombok.Getter;
+
+@Getter
+// 검색 인덱스 적재용 프로젝션 (제목, 내용만)
+public class ScheduleSearchDocument {
+
+    private final Long scheduleId;
+    private final Long userId;
+    private final String title;
+    private final String content;
+
+    public ScheduleSearchDocument(Long scheduleId, Long userId, String title, String content) {
+        this.scheduleId = scheduleId;
+        this.userId = userId;
+        this.title = title;
+        this.content = content;
+    }
+}
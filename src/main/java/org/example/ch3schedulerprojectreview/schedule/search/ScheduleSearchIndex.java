@@ -0,0 +1,265 @@
+package org.example.ch3schedulerprojectreview.schedule.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+/** 일정 검색용 역색인 (메모리)
+ * 토큰 -> (일정 ID -> 가중 등장 횟수) 를 유저별로 따로 보관
+ * -> 검색 시 해당 유저의 색인만 보므로 다른 유저 일정 수와 무관
+ *
+ * 갱신: ScheduleChangedEvent를 커밋 이후에 받아 바뀐 일정만 DB에서 다시 읽어 반영(증분)
+ * 시작 시: ApplicationReadyEvent에서 DB 전체를 스트림으로 읽어 새로 만든 뒤 교체
+ *         만드는 동안 들어온 변경은 모아뒀다가 교체 직후 다시 반영
+ *
+ * 메트릭: schedule.search.documents, schedule.search.terms, schedule.search.postings (게이지)
+ * 시작 시 재구축 시간과 힙 사용량 변화는 로그로 남김
+ */
+public class ScheduleSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;    // 제목에 있는 단어는 내용보다 3배 가중치
+
+    private final ScheduleRepository scheduleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildOnStartup;
+
+    private volatile Map<Long, UserIndex> users = new ConcurrentHashMap<>();
+    private volatile boolean rebuilding;
+    private final ConcurrentLinkedQueue<ScheduleChangedEvent> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    public ScheduleSearchIndex(
+            ScheduleRepository scheduleRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${schedule.search.rebuild-on-startup:true}") boolean rebuildOnStartup
+    ) {
+        this.scheduleRepository = scheduleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildOnStartup = rebuildOnStartup;
+        Gauge.builder("schedule.search.documents", this, index -> index.stats().documents).register(meterRegistry);
+        Gauge.builder("schedule.search.terms", this, index -> index.stats().terms).register(meterRegistry);
+        Gauge.builder("schedule.search.postings", this, index -> index.stats().postings).register(meterRegistry);
+    }
+
+    /** 유저의 일정 중 검색어의 모든 토큰을 포함하는 일정 ID (점수 높은 순)
+     * 점수 = Σ idf(토큰) * tf / (tf + 1)   (tf = 제목 3배 가중 등장 횟수, idf = ln(1 + 문서 수 / 포함 문서 수))
+     * 한 글자 한글 검색어는 그 글자로 시작하는 토큰 전체로 확장
+     */
+    public List<Long> search(Long userId, String query) {
+        UserIndex index = users.get(userId);
+        if (index == null) {
+            return List.of();
+        }
+        return index.search(List.copyOf(ScheduleTokenizer.termFrequencies(query).keySet()));
+    }
+
+    // 검색어에서 토큰이 하나도 안 나오면(기호만 입력 등) false
+    public static boolean hasTerms(String query) {
+        return !ScheduleTokenizer.termFrequencies(query).isEmpty();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)    // 기본 phase = AFTER_COMMIT
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        if (rebuilding) {
+            pendingDuringRebuild.add(event);
+        }
+        apply(users, event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    // DB 전체로 색인 재구축. 기존 색인은 교체 전까지 그대로 검색에 사용
+    public void rebuild() {
+        rebuilding = true;
+        try {
+            Runtime runtime = Runtime.getRuntime();
+            long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+            long started = System.nanoTime();
+
+            Map<Long, UserIndex> fresh = new ConcurrentHashMap<>();
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ScheduleSearchDocument> documents = scheduleRepository.streamAllSearchDocuments()) {
+                    documents.forEach(document -> index(fresh, document));
+                }
+            });
+            users = fresh;
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+            Stats stats = stats();
+            log.info("일정 검색 색인 재구축: {}ms, 일정 {}건, 토큰 {}개, posting {}개, 힙 사용량 변화 약 {}KB",
+                    elapsedMs, stats.documents, stats.terms, stats.postings, (heapAfter - heapBefore) / 1024);
+        } finally {
+            rebuilding = false;
+            // 재구축 중 커밋된 변경은 새 색인에 빠졌을 수 있으므로 다시 반영
+            ScheduleChangedEvent event;
+            while ((event = pendingDuringRebuild.poll()) != null) {
+                apply(users, event);
+            }
+        }
+    }
+
+    private void apply(Map<Long, UserIndex> target, ScheduleChangedEvent event) {
+        switch (event.getType()) {
+            case USER_WITHDRAWN -> target.remove(event.getUserId());
+            case USER_UPDATED, COMMENT_COUNT_CHANGED -> {
+                // 제목, 내용은 그대로 -> 색인 변경 없음
+            }
+            case DELETED -> {
+                UserIndex index = target.get(event.getUserId());
+                if (index != null) {
+                    event.getScheduleIds().forEach(index::remove);
+                }
+            }
+            default -> {    // CREATED, UPDATED, RESTORED: 현재 DB 값으로 다시 색인
+                if (event.getScheduleIds().isEmpty()) {
+                    return;
+                }
+                List<ScheduleSearchDocument> documents = scheduleRepository.findSearchDocuments(event.getScheduleIds());
+                Set<Long> found = new HashSet<>();
+                for (ScheduleSearchDocument document : documents) {
+                    index(target, document);
+                    found.add(document.getScheduleId());
+                }
+                UserIndex index = target.get(event.getUserId());
+                if (index != null) {
+                    event.getScheduleIds().stream().filter(id -> !found.contains(id)).forEach(index::remove);
+                }
+            }
+        }
+    }
+
+    private void index(Map<Long, UserIndex> target, ScheduleSearchDocument document) {
+        Map<String, Integer> terms = new HashMap<>();
+        ScheduleTokenizer.termFrequencies(document.getTitle())
+                .forEach((term, count) -> terms.merge(term, count * TITLE_WEIGHT, Integer::sum));
+        ScheduleTokenizer.termFrequencies(document.getContent())
+                .forEach((term, count) -> terms.merge(term, count, Integer::sum));
+        target.computeIfAbsent(document.getUserId(), id -> new UserIndex())
+                .put(document.getScheduleId(), terms);
+    }
+
+    private Stats stats() {
+        Stats stats = new Stats();
+        for (UserIndex index : users.values()) {
+            index.addTo(stats);
+        }
+        return stats;
+    }
+
+    private static final class Stats {
+        long documents;
+        long terms;
+        long postings;
+    }
+
+    // 유저 한 명의 색인. 갱신과 검색이 같은 락을 씀(유저 단위라 경합 적음)
+    private static final class UserIndex {
+
+        private final TreeMap<String, Map<Long, Integer>> postings = new TreeMap<>();    // 한 글자 접두어 검색용으로 정렬
+        private final Map<Long, Map<String, Integer>> documents = new HashMap<>();       // 삭제/수정 시 기존 토큰 제거용
+
+        synchronized void put(Long scheduleId, Map<String, Integer> terms) {
+            remove(scheduleId);
+            if (terms.isEmpty()) {
+                return;
+            }
+            documents.put(scheduleId, terms);
+            terms.forEach((term, count) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(scheduleId, count));
+        }
+
+        synchronized void remove(Long scheduleId) {
+            Map<String, Integer> terms = documents.remove(scheduleId);
+            if (terms == null) {
+                return;
+            }
+            for (String term : terms.keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(scheduleId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        synchronized List<Long> search(List<String> queryTerms) {
+            if (queryTerms.isEmpty()) {
+                return List.of();
+            }
+            Map<Long, Double> scores = null;
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postingFor(term);
+                if (posting.isEmpty()) {
+                    return List.of();    // 모든 토큰을 포함해야 결과(AND)
+                }
+                double idf = Math.log(1 + (double) documents.size() / posting.size());
+                Map<Long, Double> next = new HashMap<>();
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    if (scores != null && !scores.containsKey(entry.getKey())) {
+                        continue;
+                    }
+                    double tf = entry.getValue();
+                    double previous = scores == null ? 0 : scores.get(entry.getKey());
+                    next.put(entry.getKey(), previous + idf * tf / (tf + 1));
+                }
+                scores = next;
+            }
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey(Comparator.reverseOrder())));    // 동점이면 최근 일정 먼저
+            return ranked.stream().map(Map.Entry::getKey).toList();
+        }
+
+        private Map<Long, Integer> postingFor(String term) {
+            if (!ScheduleTokenizer.isSingleHangul(term)) {
+                return postings.getOrDefault(term, Map.of());
+            }
+            // 한 글자 한글: 그 글자로 시작하는 bigram 전체 합산
+            Map<Long, Integer> merged = new HashMap<>();
+            for (Map<Long, Integer> posting : postings.subMap(term, term + Character.MAX_VALUE).values()) {
+                posting.forEach((id, count) -> merged.merge(id, count, Integer::sum));
+            }
+            return merged;
+        }
+
+        synchronized void addTo(Stats stats) {
+            stats.documents += documents.size();
+            stats.terms += postings.size();
+            for (Map<String, Integer> terms : documents.values()) {
+                stats.postings += terms.size();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.ch3schedulerprojectreview.schedule.search;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/** 검색용 토크나이저
+ * - 영문/숫자: 공백, 기호 기준으로 나눈 단어(소문자)
+ * - 한글: 띄어쓰기 단위가 아니라 2글자씩 겹쳐 자른 bigram
+ *   ex) "주간회의록" -> 주간, 간회, 회의, 의록
+ *   조사가 붙어도("회의를") "회의"로 검색됨. 형태소 분석기 없이 부분 일치 검색 가능
+ *   한 글자짜리 한글 단어는 그대로 한 글자 토큰
+ */
+public final class ScheduleTokenizer {
+
+    private ScheduleTokenizer() {
+    }
+
+    // 토큰 -> 등장 횟수 (등장 순서 유지)
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            int codePoint = lower.codePointAt(i);
+            if (isHangul(codePoint)) {
+                int end = i;
+                while (end < lower.length() && isHangul(lower.codePointAt(end))) {
+                    end += Character.charCount(lower.codePointAt(end));
+                }
+                addHangul(lower.substring(i, end), terms);
+                i = end;
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int end = i;
+                while (end < lower.length()
+                        && Character.isLetterOrDigit(lower.codePointAt(end))
+                        && !isHangul(lower.codePointAt(end))) {
+                    end += Character.charCount(lower.codePointAt(end));
+                }
+                terms.merge(lower.substring(i, end), 1, Integer::sum);
+                i = end;
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+        return terms;
+    }
+
+    public static boolean isSingleHangul(String term) {
+        return term.length() == 1 && isHangul(term.charAt(0));
+    }
+
+    private static void addHangul(String run, Map<String, Integer> terms) {
+        if (run.length() == 1) {
+            terms.merge(run, 1, Integer::sum);
+            return;
+        }
+        for (int j = 0; j + 1 < run.length(); j++) {
+            terms.merge(run.substring(j, j + 2), 1, Integer::sum);
+        }
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.ch3schedulerprojectreview.schedule.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.ConflictException;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleConflictPolicy;
+import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.schedule.recurrence.RecurrenceRule;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+/** 일정 겹침 검사
+ * 두 인덱스 쿼리로 후보만 읽음 -> 유저의 전체 일정을 읽지 않고 쓰기 1건당 인덱스 탐색 O(log n + 후보 수)
+ * - 보통 일정(기간 <= Schedule.SPAN_LIMIT): 시작이 (start - SPAN_LIMIT, end) 안인 것만 (findConflicts)
+ * - 긴 일정(SPAN_LIMIT 초과, 반복 시리즈): long_span 인덱스로 따로 (findLongConflictCandidates)
+ *   시리즈는 검사 구간 안의 발생을 계산해서 발생끼리 비교
+ * 요청이 반복 일정이면 첫 발생부터 HORIZON 안의 발생을 모두 검사 (그 뒤 발생은 검사하지 않음)
+ * SHIFT는 단일 일정만 (반복 일정은 발생마다 옮길 위치가 달라서 400)
+ *
+ * 동시성: 같은 유저의 쓰기가 동시에 들어오면 둘 다 "겹침 없음"으로 통과할 수 있음
+ * -> 호출하는 쪽(ScheduleService)에서 정책이 NONE이 아니면 user 행을 먼저 잠가(SELECT ... FOR UPDATE) 직렬화
+ */
+public class ScheduleConflictChecker {
+
+    private static final int MAX_REPORTED = 10;    // WARN/REJECT 시 알려주는 최대 일정 수
+    private static final int MAX_SHIFTS = 100;     // SHIFT 시 최대 이동 횟수
+    private static final Duration HORIZON = Duration.ofDays(366);    // 반복 일정 요청의 검사 기간 (기간 조회 최대 구간과 같음)
+
+    private final ScheduleRepository scheduleRepository;
+
+    public ScheduleConflictResolution resolve(
+            Long userId,
+            Long excludeScheduleId,    // 수정 시 자기 자신은 제외. 생성 시 null
+            LocalDateTime start,
+            LocalDateTime end,
+            RecurrenceRule rule,    // 반복 일정이 아니면 null
+            List<LocalDate> exceptionDates,
+            ScheduleConflictPolicy policy
+    ) {
+        if (policy == ScheduleConflictPolicy.NONE) {
+            return new ScheduleConflictResolution(start, end, List.of(), false);
+        }
+        long excludeId = excludeScheduleId == null ? 0L : excludeScheduleId;
+        Duration duration = Duration.between(start, end);
+        if (rule != null) {
+            if (policy == ScheduleConflictPolicy.SHIFT) {
+                throw new BadRequestException("반복 일정은 conflict=shift를 지원하지 않습니다. (reject 또는 warn)");
+            }
+            List<LocalDateTime> starts = rule.occurrences(
+                    start,
+                    duration,
+                    exceptionDates == null ? Set.of() : Set.copyOf(exceptionDates),
+                    start,
+                    start.plus(HORIZON));
+            return report(findConflicts(userId, excludeId, starts, duration, MAX_REPORTED), start, end, policy);
+        }
+
+        List<Conflict> conflicts = findConflicts(userId, excludeId, List.of(start), duration, MAX_REPORTED);
+        if (conflicts.isEmpty() || policy != ScheduleConflictPolicy.SHIFT) {
+            return report(conflicts, start, end, policy);
+        }
+        // SHIFT
+        List<Long> passed = new ArrayList<>();
+        for (int i = 0; i < MAX_SHIFTS && !conflicts.isEmpty(); i++) {
+            // 종료 시각이 가장 늦은 일정(또는 발생) 바로 뒤로 이동 -> 다시 겹치는지 확인
+            Conflict latest = conflicts.get(0);
+            passed.add(latest.scheduleId);
+            start = latest.end;
+            end = start.plus(duration);
+            conflicts = findConflicts(userId, excludeId, List.of(start), duration, 1);
+        }
+        if (!conflicts.isEmpty()) {
+            throw new ConflictException("겹치지 않는 시간을 찾지 못했습니다.");
+        }
+        return new ScheduleConflictResolution(start, end, passed, true);
+    }
+
+    private ScheduleConflictResolution report(
+            List<Conflict> conflicts,
+            LocalDateTime start,
+            LocalDateTime end,
+            ScheduleConflictPolicy policy
+    ) {
+        if (conflicts.isEmpty()) {
+            return new ScheduleConflictResolution(start, end, List.of(), false);
+        }
+        List<Long> ids = conflicts.stream().map(conflict -> conflict.scheduleId).toList();
+        if (policy == ScheduleConflictPolicy.REJECT) {
+            throw new ConflictException("겹치는 일정이 있습니다. (scheduleId: " + ids + ")");
+        }
+        return new ScheduleConflictResolution(start, end, ids, false);    // WARN
+    }
+
+    /** 요청 발생들([s, s + duration), s는 시작 순)과 겹치는 일정. 일정마다 겹친 기간 중 가장 늦은 종료 시각
+     * 종료 시각이 늦은 순서로 max건
+     */
+    private List<Conflict> findConflicts(
+            Long userId,
+            long excludeId,
+            List<LocalDateTime> starts,
+            Duration duration,
+            int max
+    ) {
+        if (starts.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime windowStart = starts.get(0);
+        LocalDateTime windowEnd = starts.get(starts.size() - 1).plus(duration);
+        Map<Long, LocalDateTime> latestEnd = new HashMap<>();
+
+        // 보통 일정: 발생이 1개면 쿼리 결과가 그대로 겹침 -> 필요한 만큼만. 여러 개면 구간 안 후보를 모두 읽어서 비교
+        Limit limit = starts.size() == 1 ? Limit.of(max) : Limit.unlimited();
+        for (Schedule schedule : scheduleRepository.findConflicts(
+                userId, excludeId, windowStart.minus(Schedule.SPAN_LIMIT), windowStart, windowEnd, limit)) {
+            collect(latestEnd, schedule.getScheduleId(), schedule.getStartDateTime(), schedule.getEndDateTime(),
+                    starts, duration);
+        }
+        // 긴 일정, 반복 시리즈(검사 구간 안의 발생만 계산)
+        for (Schedule schedule : scheduleRepository.findLongConflictCandidates(userId, excludeId, windowStart, windowEnd)) {
+            if (!schedule.isRecurring()) {
+                collect(latestEnd, schedule.getScheduleId(), schedule.getStartDateTime(), schedule.getEndDateTime(),
+                        starts, duration);
+                continue;
+            }
+            Duration seriesDuration = Duration.between(schedule.getStartDateTime(), schedule.getEndDateTime());
+            for (LocalDateTime occurrence : RecurrenceRule.parse(schedule.getRecurrenceRule()).occurrences(
+                    schedule.getStartDateTime(),
+                    seriesDuration,
+                    Schedule.parseExceptionDates(schedule.getExceptionDates()),
+                    windowStart,
+                    windowEnd)) {
+                collect(latestEnd, schedule.getScheduleId(), occurrence, occurrence.plus(seriesDuration),
+                        starts, duration);
+            }
+        }
+
+        List<Conflict> conflicts = new ArrayList<>(latestEnd.size());
+        latestEnd.forEach((scheduleId, end) -> conflicts.add(new Conflict(scheduleId, end)));
+        conflicts.sort(Collections.reverseOrder((a, b) -> a.end.compareTo(b.end)));
+        return conflicts.size() > max ? List.copyOf(conflicts.subList(0, max)) : conflicts;
+    }
+
+    // [start, end)가 요청 발생 중 하나와 겹치면 기록
+    private void collect(
+            Map<Long, LocalDateTime> latestEnd,
+            Long scheduleId,
+            LocalDateTime start,
+            LocalDateTime end,
+            List<LocalDateTime> starts,
+            Duration duration
+    ) {
+        if (overlapsAny(starts, duration, start, end)) {
+            latestEnd.merge(scheduleId, end, (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    /** 발생 [s, s + duration)들 중 [start, end)와 겹치는 것이 있는지 (starts는 시작 순)
+     * 겹침: s < end && s + duration > start -> s > start - duration인 첫 발생만 확인하면 됨 (이진 탐색)
+     */
+    static boolean overlapsAny(List<LocalDateTime> starts, Duration duration, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime after = start.minus(duration);
+        int lo = 0;
+        int hi = starts.size();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts.get(mid).isAfter(after)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return lo < starts.size() && starts.get(lo).isBefore(end);
+    }
+
+    private static final class Conflict {
+
+        private final Long scheduleId;
+        private final LocalDateTime end;
+
+        private Conflict(Long scheduleId, LocalDateTime end) {
+            this.scheduleId = scheduleId;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.ch3schedulerprojectreview.schedule.service;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+// 겹침 검사 후 실제로 저장할 시간 + 겹친 일정 ID
+public class ScheduleConflictResolution {
+
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final List<Long> conflictScheduleIds;
+    private final boolean shifted;
+
+    public ScheduleConflictResolution(
+            LocalDateTime startDateTime,
+            LocalDateTime endDateTime,
+            List<Long> conflictScheduleIds,
+            boolean shifted
+    ) {
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.conflictScheduleIds = conflictScheduleIds;
+        this.shifted = shifted;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.ch3schedulerprojectreview.schedule.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleExportFormat;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+/** 일정 전체 내보내기
+ * DB 결과를 한 행씩 읽으면서 바로 응답에 씀 -> 일정이 몇 건이든 메모리 사용량 일정
+ * 페이지 조회를 여러 번 반복하지 않으므로 count 쿼리도 없음
+ */
+public class ScheduleExportService {
+
+    private static final int FLUSH_INTERVAL = 500;    // 500행마다 응답 버퍼를 내보냄
+    private static final String CSV_HEADER = "scheduleId,title,content,startDateTime,endDateTime,createdAt,modifiedAt,recurrenceRule,exceptionDates";
+
+    private final ScheduleRepository scheduleRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)    // Stream 조회는 트랜잭션(커넥션)이 열려 있는 동안만 읽을 수 있음
+    public void export(Long userId, ScheduleExportFormat format, Writer writer) throws IOException {
+        if (format == ScheduleExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try (Stream<ScheduleResponse> rows = scheduleRepository.streamAllByUserId(userId)) {
+            Iterator<ScheduleResponse> iterator = rows.iterator();    // forEach 람다에서는 IOException을 던질 수 없어서 Iterator 사용
+            int count = 0;
+            while (iterator.hasNext()) {
+                ScheduleResponse row = iterator.next();
+                writer.write(format == ScheduleExportFormat.CSV ? toCsv(row) : objectMapper.writeValueAsString(row));
+                writer.write('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private String toCsv(ScheduleResponse row) {
+        return String.join(",",
+                String.valueOf(row.getScheduleId()),
+                csv(row.getTitle()),
+                csv(row.getContent()),
+                csv(row.getStartDateTime()),
+                csv(row.getEndDateTime()),
+                csv(row.getCreatedAt()),
+                csv(row.getModifiedAt()),
+                csv(row.getRecurrenceRule()),
+                csv(row.getExceptionDates()));
+    }
+
+    // RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = Objects.toString(value);
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,211 @@
+package org.example.ch3schedulerprojectreview.schedule.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.NotFoundException;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleBatchResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleBatchRowResult;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleRequest;
+import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.event.SchedulePeriodChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.freebusy.SchedulePeriod;
+import org.example.ch3schedulerprojectreview.schedule.recurrence.RecurrenceRule;
+import org.example.ch3schedulerprojectreview.schedule.reminder.ScheduleReminderOutbox;
+import org.example.ch3schedulerprojectreview.user.entity.User;
+import org.example.ch3schedulerprojectreview.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+@Service
+/** 일정 일괄 등록(마이그레이션/온보딩용)
+ * 요청 본문(JSON 배열 또는 NDJSON)을 한 행씩 읽으면서 검증 -> 유효한 행만 청크 단위로 INSERT
+ * - 본문 전체를 메모리에 올리지 않음(스트리밍 파싱)
+ * - 청크마다 별도 트랜잭션 + flush/clear -> 영속성 컨텍스트가 커지지 않음
+ * - 청크 저장이 실패하면 그 청크만 롤백되고 해당 행들은 FAILED로 기록, 다음 청크는 계속 진행
+ *   -> 응답의 행별 결과로 어떤 행이 저장됐는지 항상 알 수 있음(앞 청크는 이미 커밋됨)
+ * - Schedule PK가 시퀀스(pooled) 방식이라 INSERT를 JDBC 배치로 묶어서 전송
+ */
+public class ScheduleImportService {
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleReminderOutbox reminderOutbox;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public ScheduleImportService(
+            UserRepository userRepository,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            ScheduleReminderOutbox reminderOutbox,
+            @Value("${schedule.batch.chunk-size:500}") int chunkSize,
+            @Value("${schedule.batch.max-rows:50000}") int maxRows
+    ) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.reminderOutbox = reminderOutbox;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    public ScheduleBatchResponse importSchedules(Long userId, InputStream body) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("해당하는 계정이 없습니다.");
+        }
+        List<ScheduleBatchRowResult> results = new ArrayList<>();
+        List<ScheduleRequest> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        int total = 0;
+        int created = 0;
+        String abortedReason = null;
+
+        // readValues: 최상위가 배열이면 배열 원소를, 아니면 줄마다 이어진 JSON 값(NDJSON)을 하나씩 읽음
+        try (MappingIterator<ScheduleRequest> rows = objectMapper.readerFor(ScheduleRequest.class).readValues(body)) {
+            while (rows.hasNextValue()) {
+                if (total >= maxRows) {
+                    abortedReason = "한 번에 최대 " + maxRows + "건까지 등록 가능합니다.";
+                    break;
+                }
+                int index = total++;
+                ScheduleRequest request;
+                try {
+                    request = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // 날짜 형식 오류 등 해당 행만 실패 처리하고 다음 행으로 넘어감
+                    results.add(failed(index, List.of("형식이 올바르지 않습니다: " + e.getOriginalMessage())));
+                    continue;
+                }
+                List<String> errors = validate(request);
+                if (!errors.isEmpty()) {
+                    results.add(failed(index, errors));
+                    continue;
+                }
+                chunk.add(request);
+                chunkIndexes.add(index);
+                if (chunk.size() == chunkSize) {
+                    created += insertChunk(userId, chunk, chunkIndexes, results);
+                    chunk.clear();
+                    chunkIndexes.clear();
+                }
+            }
+        } catch (JsonParseException e) {
+            // JSON 문법 자체가 깨지면 이후 행은 구분할 수 없으므로 중단
+            abortedReason = "JSON 형식 오류: " + e.getOriginalMessage();
+        }
+        if (!chunk.isEmpty()) {
+            created += insertChunk(userId, chunk, chunkIndexes, results);
+        }
+
+        results.sort(Comparator.comparingInt(ScheduleBatchRowResult::getIndex));
+        return new ScheduleBatchResponse(total, created, total - created, abortedReason, results);
+    }
+
+    private List<String> validate(ScheduleRequest request) {
+        if (request == null) {
+            return List.of("빈 행입니다.");
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<ScheduleRequest> violation : validator.validate(request)) {
+            errors.add(violation.getMessage());
+        }
+        if (request.getStartDateTime() != null && request.getEndDateTime() != null
+                && request.getEndDateTime().isBefore(request.getStartDateTime())) {
+            errors.add("종료 날짜 및 시간은 시작 이후여야 합니다.");
+        }
+        try {
+            RecurrenceRule.parse(request.getRecurrenceRule());
+        } catch (BadRequestException e) {
+            errors.add(e.getMessage());
+        }
+        return errors;
+    }
+
+    // 청크 저장. 실패하면 청크의 행을 모두 FAILED로 기록하고 0 반환 (예외를 밖으로 던지지 않음)
+    private int insertChunk(
+            Long userId,
+            List<ScheduleRequest> requests,
+            List<Integer> indexes,
+            List<ScheduleBatchRowResult> results
+    ) {
+        List<Long> ids;
+        try {
+            ids = saveChunk(userId, requests);
+        } catch (RuntimeException e) {
+            log.warn("일괄 등록 청크 저장 실패, 행 {}~{} 롤백: userId={}",
+                    indexes.get(0), indexes.get(indexes.size() - 1), userId, e);
+            for (Integer index : indexes) {
+                results.add(failed(index, List.of("저장에 실패했습니다. 다시 시도해 주세요.")));
+            }
+            return 0;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            results.add(new ScheduleBatchRowResult(
+                    indexes.get(i), ScheduleBatchRowResult.Status.CREATED, ids.get(i), null));
+        }
+        return ids.size();
+    }
+
+    // 청크 1개 = 트랜잭션 1번. 반환값 = 요청 순서대로 생성된 일정 ID
+    private List<Long> saveChunk(Long userId, List<ScheduleRequest> requests) {
+        return transactionTemplate.execute(status -> {
+            User user = entityManager.getReference(User.class, userId);    // SELECT 없이 FK 값만 가진 프록시
+            List<Schedule> schedules = new ArrayList<>(requests.size());
+            for (ScheduleRequest request : requests) {
+                Schedule schedule = new Schedule(
+                        request.getTitle(),
+                        request.getContent(),
+                        request.getStartDateTime(),
+                        request.getEndDateTime(),
+                        user
+                );
+                schedule.applyRecurrence(RecurrenceRule.parse(request.getRecurrenceRule()), request.getExceptionDates());
+                schedule.applyReminder(request.getReminderMinutes());
+                entityManager.persist(schedule);    // PK만 할당, INSERT는 flush 때 배치로
+                schedules.add(schedule);
+            }
+            reminderOutbox.scheduleAll(schedules);    // 단건 생성과 같은 알림 예약. schedule_reminder INSERT도 같은 flush에 배치로
+            entityManager.flush();    // hibernate.jdbc.batch_size 단위로 묶어서 INSERT
+            entityManager.clear();    // 청크가 끝나면 영속성 컨텍스트 비움 -> 메모리 일정
+            List<Long> scheduleIds = schedules.stream().map(Schedule::getScheduleId).toList();
+            eventPublisher.publishEvent(new ScheduleChangedEvent(
+                    userId, scheduleIds, ScheduleChangedEvent.Type.CREATED));
+            eventPublisher.publishEvent(new SchedulePeriodChangedEvent(userId, List.of(), schedules.stream()
+                    .filter(schedule -> !schedule.isRecurring())
+                    .map(schedule -> new SchedulePeriod(schedule.getStartDateTime(), schedule.getEndDateTime()))
+                    .toList()));
+            return scheduleIds;
+        });
+    }
+
+    private ScheduleBatchRowResult failed(int index, List<String> errors) {
+        return new ScheduleBatchRowResult(index, ScheduleBatchRowResult.Status.FAILED, null, errors);
+    }
+}
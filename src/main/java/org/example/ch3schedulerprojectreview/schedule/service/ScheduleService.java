@@ -1,24 +1,69 @@
 package org.example.ch3schedulerprojectreview.schedule.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.example.ch3schedulerprojectreview.comment.cascade.CommentCascade;
+import org.example.ch3schedulerprojectreview.common.etag.ETags;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.NotFoundException;
+import org.example.ch3schedulerprojectreview.common.exception.custom.PreconditionFailedException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.UnauthorizedException;
+import org.example.ch3schedulerprojectreview.common.patch.JsonMergePatcher;
 import org.example.ch3schedulerprojectreview.config.PasswordEncoder;
+import org.example.ch3schedulerprojectreview.schedule.cache.ScheduleResponseCache;
+import org.example.ch3schedulerprojectreview.schedule.agenda.ScheduleAgendaRollup;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleAgendaDay;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleAgendaResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleBulkRequest;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleBulkResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleConflictPolicy;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleCursor;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleDeleteRequest;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleFreeBusyResponse;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleRequest;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleSaveResult;
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleSliceResponse;
 import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleUpdateRequest;
 import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.event.SchedulePeriodChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.freebusy.FreeBusyBitmap;
+import org.example.ch3schedulerprojectreview.schedule.freebusy.ScheduleFreeBusyCache;
+import org.example.ch3schedulerprojectreview.schedule.freebusy.SchedulePeriod;
+import org.example.ch3schedulerprojectreview.schedule.interval.ScheduleIntervalCache;
+import org.example.ch3schedulerprojectreview.schedule.interval.ScheduleIntervalIndex;
+import org.example.ch3schedulerprojectreview.schedule.recurrence.RecurrenceRule;
+import org.example.ch3schedulerprojectreview.schedule.recurrence.ScheduleOccurrences;
+import org.example.ch3schedulerprojectreview.schedule.reminder.ScheduleReminderOutbox;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleDailyRollupRepository;
 import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.example.ch3schedulerprojectreview.schedule.search.ScheduleSearchIndex;
 import org.example.ch3schedulerprojectreview.user.entity.User;
 import org.example.ch3schedulerprojectreview.user.repository.UserRepository;
 import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 @Service
 /**
@@ -36,6 +81,21 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;    // 일정 변경 이벤트 발행 -> 캐시 무효화
+    private final ScheduleIntervalCache intervalCache;
+    private final ScheduleResponseCache responseCache;
+    private final ScheduleSearchIndex searchIndex;
+    private final ScheduleFreeBusyCache freeBusyCache;
+    private final JsonMergePatcher mergePatcher;
+    private final ScheduleAgendaRollup agendaRollup;
+    private final ScheduleDailyRollupRepository rollupRepository;
+    private final ScheduleConflictChecker conflictChecker;
+    private final ScheduleReminderOutbox reminderOutbox;
+    private final CommentCascade commentCascade;    // 일정 삭제/복구 시 댓글도 함께
+    private final PlatformTransactionManager transactionManager;    // 메서드 일부에서만 트랜잭션이 필요할 때
+
+    private static final Duration MAX_WINDOW = Duration.ofDays(366);
+    private static final int MAX_BULK_SIZE = 1000;    // 일괄 삭제/복구 1번에 바꾸는 최대 일정 수 (IN 목록 크기)
 
     /** @RequiredArgsConstructor이 없으면,
      * public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
@@ -73,20 +133,34 @@ public class ScheduleService {
      * 메서드 내 DB 작업을 트랜잭션 단위로 묶음
      * 정상 종료 -> 커밋, 예외 발생 -> 롤백
      */
-    public ScheduleResponse save(Long userId, ScheduleRequest request) {
-        User user = userRepository.findById(userId).orElseThrow(    // Optional에서 안전하게 예외를 던지는 표준 방식
+    public ScheduleSaveResult save(Long userId, ScheduleRequest request, ScheduleConflictPolicy conflictPolicy) {
+        validatePeriod(request.getStartDateTime(), request.getEndDateTime());
+        RecurrenceRule rule = RecurrenceRule.parse(request.getRecurrenceRule());    // 형식 오류면 400
+        // 겹침 검사를 하면 같은 유저의 동시 쓰기를 막기 위해 user 행을 잠금
+        User user = (conflictPolicy == ScheduleConflictPolicy.NONE
+                ? userRepository.findById(userId)    // Optional에서 안전하게 예외를 던지는 표준 방식
+                : userRepository.findByIdForUpdate(userId)).orElseThrow(
                 () -> new NotFoundException("해당하는 계정이 없습니다.")
         );
+        ScheduleConflictResolution resolution = conflictChecker.resolve(
+                userId, null, request.getStartDateTime(), request.getEndDateTime(),
+                rule, request.getExceptionDates(), conflictPolicy);
         Schedule schedule = new Schedule(    // Schedule 엔티티 생성
                 request.getTitle(),
                 request.getContent(),
-                request.getStartDateTime(),
-                request.getEndDateTime(),
+                resolution.getStartDateTime(),
+                resolution.getEndDateTime(),
                 user
         );
+        schedule.applyRecurrence(rule, request.getExceptionDates());
+        schedule.applyReminder(request.getReminderMinutes());
         Schedule savedSchedule = scheduleRepository.save(schedule);    // JPA가 persist 또는 merge를 수행
+        reminderOutbox.schedule(savedSchedule);    // 같은 트랜잭션에서 알림 예약
+        eventPublisher.publishEvent(new ScheduleChangedEvent(
+                userId, savedSchedule.getScheduleId(), ScheduleChangedEvent.Type.CREATED));
+        eventPublisher.publishEvent(new SchedulePeriodChangedEvent(userId, List.of(), periodOf(savedSchedule)));
 
-        return new ScheduleResponse(
+        ScheduleResponse response = new ScheduleResponse(
                 user.getUserId(),
                 user.getEmail(),
                 user.getUsername(),
@@ -94,29 +168,54 @@ public class ScheduleService {
                 savedSchedule.getTitle(),
                 savedSchedule.getContent(),
                 savedSchedule.getStartDateTime(),
-                savedSchedule.getEndDateTime()
+                savedSchedule.getEndDateTime(),
+                savedSchedule.getCreatedAt(),
+                savedSchedule.getModifiedAt(),
+                savedSchedule.getRecurrenceRule(),
+                savedSchedule.getExceptionDates(),
+                savedSchedule.getReminderMinutes(),
+                savedSchedule.getCommentCount(),
+                savedSchedule.getVersion(),
+                user.getVersion()
         );
+        return new ScheduleSaveResult(response, resolution.getConflictScheduleIds(), resolution.isShifted());
+    }
+
+    // 시작/종료 순서 검증
+    private void validatePeriod(LocalDateTime start, LocalDateTime end) {
+        if (end.isBefore(start)) {
+            throw new BadRequestException("종료 날짜 및 시간은 시작 이후여야 합니다.");
+        }
+    }
+
+    // 빈 시간 캐시에 반영할 기간. 반복 일정은 조회 때 발생을 계산하므로, 삭제된 일정은 차지하는 기간이 없으므로 제외
+    private List<SchedulePeriod> periodOf(Schedule schedule) {
+        if (schedule.isRecurring() || schedule.isDeleted()) {
+            return List.of();
+        }
+        return List.of(new SchedulePeriod(schedule.getStartDateTime(), schedule.getEndDateTime()));
     }
 
     /*
     Hibernate:
     select
+    u1_0.user_id,
+    u1_0.email,
+    u1_0.username,
     s1_0.schedule_id,
+    s1_0.title,
     s1_0.content,
-    s1_0.created_at,
-    s1_0.deleted,
-    s1_0.end_date_time,
-    s1_0.modified_at,
     s1_0.start_date_time,
-    s1_0.title,
-    s1_0.user_id
+    s1_0.end_date_time,
+    s1_0.created_at,
+    s1_0.modified_at
             from
     schedule s1_0
-    left join
+    join
     user u1_0
     on u1_0.user_id=s1_0.user_id
             where
-    u1_0.user_id=?
+    s1_0.user_id=?
     and not(s1_0.deleted)
     order by
     s1_0.created_at desc
@@ -127,45 +226,17 @@ public class ScheduleService {
     count(s1_0.schedule_id)
     from
     schedule s1_0
-    left join
-    user u1_0
-    on u1_0.user_id=s1_0.user_id
-            where
-    u1_0.user_id=?
-    and not(s1_0.deleted)
-    Hibernate:
-    select
-    u1_0.user_id,
-    u1_0.created_at,
-    u1_0.deleted,
-    u1_0.email,
-    u1_0.modified_at,
-    u1_0.password,
-    u1_0.username
-            from
-    user u1_0
     where
-    u1_0.user_id=?
+    s1_0.user_id=?
+    and not(s1_0.deleted)
+    -> user 추가 조회 없음. count는 조회 결과가 size보다 적으면 생략됨
     */
 
     // 전체 조회
     @Transactional(readOnly = true)
     public Page<ScheduleResponse> findAllMe(Long userId, Pageable pageable) {
-        Page<Schedule> schedules = scheduleRepository.findByUserUserIdAndDeletedFalse(userId, pageable);
-        // map을 이용해 DTO로 변환
-        return schedules.map(schedule -> {
-            User user = schedule.getUser();
-            return new ScheduleResponse(
-                    user.getUserId(),
-                    user.getEmail(),
-                    user.getUsername(),
-                    schedule.getScheduleId(),
-                    schedule.getTitle(),
-                    schedule.getContent(),
-                    schedule.getStartDateTime(),
-                    schedule.getEndDateTime()
-            );
-        });
+        // 프로젝션으로 바로 DTO 조회 (user 지연 로딩 없음)
+        return scheduleRepository.findResponsesByUserId(userId, pageable);
     }
 
     /*
@@ -183,47 +254,267 @@ public class ScheduleService {
             from
     schedule s1_0
     where
-    s1_0.schedule_id=?
+    s1_0.user_id=?
     and not(s1_0.deleted)
+    and (s1_0.created_at<? or (s1_0.created_at=? and s1_0.schedule_id<?))
+    order by
+    s1_0.created_at desc,
+    s1_0.schedule_id desc
+    limit
+        ?
+    -> count 쿼리 없음
+    */
+
+    // 전체 조회 - 커서 방식
+    @Transactional(readOnly = true)
+    public ScheduleSliceResponse findAllMeByCursor(Long userId, String after, String before, int size) {
+        if (after != null && before != null) {
+            throw new BadRequestException("after와 before는 함께 사용할 수 없습니다.");
+        }
+        if (size < 1 || size > 100) {
+            throw new BadRequestException("size는 1~100 사이여야 합니다.");
+        }
+        Limit limit = Limit.of(size + 1);    // 1건 더 조회해서 다음 페이지 존재 여부 판단
+
+        if (before != null) {
+            ScheduleCursor cursor = ScheduleCursor.decode(before);
+            List<ScheduleResponse> schedules = new ArrayList<>(scheduleRepository.findSliceBefore(
+                    userId, cursor.getCreatedAt(), cursor.getScheduleId(), limit));
+            boolean hasPrev = schedules.size() > size;
+            if (hasPrev) {
+                schedules.remove(size);
+            }
+            Collections.reverse(schedules);    // 오름차순으로 가져왔으므로 다시 최신순으로
+            // before 기준 페이지는 커서 위치의 일정이 뒤에 남아 있으므로 항상 다음 페이지 존재
+            return toSlice(schedules, size, true, hasPrev);
+        }
+
+        List<ScheduleResponse> schedules = new ArrayList<>(after == null
+                ? scheduleRepository.findFirstSliceByUserId(userId, limit)
+                : findSliceAfter(userId, ScheduleCursor.decode(after), limit));
+        boolean hasNext = schedules.size() > size;
+        if (hasNext) {
+            schedules.remove(size);
+        }
+        return toSlice(schedules, size, hasNext, after != null);
+    }
+
+    private List<ScheduleResponse> findSliceAfter(Long userId, ScheduleCursor cursor, Limit limit) {
+        return scheduleRepository.findSliceAfter(userId, cursor.getCreatedAt(), cursor.getScheduleId(), limit);
+    }
+
+    private ScheduleSliceResponse toSlice(List<ScheduleResponse> content, int size, boolean hasNext, boolean hasPrev) {
+        if (content.isEmpty()) {
+            return new ScheduleSliceResponse(content, size, false, null, null);
+        }
+        ScheduleResponse first = content.get(0);
+        ScheduleResponse last = content.get(content.size() - 1);
+        return new ScheduleSliceResponse(
+                content,
+                size,
+                hasNext,
+                hasNext ? new ScheduleCursor(last.getCreatedAt(), last.getScheduleId()).encode() : null,
+                hasPrev ? new ScheduleCursor(first.getCreatedAt(), first.getScheduleId()).encode() : null
+        );
+    }
+
+    // 기간 조회 - [from, to) 구간과 겹치는 일정 (캘린더 주간/월간 보기)
+    @Transactional(readOnly = true)
+    public List<ScheduleResponse> findByWindow(Long userId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("from은 to보다 이전이어야 합니다.");
+        }
+        if (Duration.between(from, to).compareTo(MAX_WINDOW) > 0) {
+            throw new BadRequestException("조회 기간은 최대 366일입니다.");
+        }
+        if (intervalCache.isEnabled()) {
+            // 캐시 사용 시: 유저의 구간 인덱스가 있으면 DB 조회 없이 응답
+            ScheduleIntervalIndex index = intervalCache.get(userId);
+            if (index == null && !intervalCache.isOversized(userId)) {
+                Object token = intervalCache.beginLoad(userId);
+                try {
+                    index = intervalCache.put(userId,
+                            scheduleRepository.findAllResponsesByUserId(userId, Limit.of(intervalCache.loadLimit())),
+                            token);
+                } finally {
+                    intervalCache.endLoad(userId, token);
+                }
+            }
+            if (index != null) {
+                return index.findOverlapping(from, to);
+            }
+            // 일정이 캐시 한도보다 많은 유저: 전체 이력 대신 구간 쿼리
+        }
+        // 단일 일정 + 반복 일정의 구간 내 발생
+        return ScheduleOccurrences.merge(
+                scheduleRepository.findOverlapping(userId, from, to),
+                scheduleRepository.findSeriesOverlapping(userId, from, to),
+                from,
+                to
+        );
+    }
+
+    // 월간 집계 (GET /schedules/agenda?month=2025-10) - 날짜별 일정 수, 가장 이른/늦은 시작 시각
+    @Transactional(readOnly = true)
+    public ScheduleAgendaResponse findAgenda(Long userId, String month) {
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month);    // yyyy-MM
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("month는 yyyy-MM 형식이어야 합니다.");
+        }
+        LocalDate firstDay = yearMonth.atDay(1);
+        LocalDate nextMonth = yearMonth.plusMonths(1).atDay(1);
+        LocalDateTime from = firstDay.atStartOfDay();
+        LocalDateTime to = nextMonth.atStartOfDay();
+
+        // 단일 일정: 집계 테이블(사용 시) 또는 GROUP BY. 어느 쪽이든 최대 31행
+        List<ScheduleAgendaDay> singles = agendaRollup.isReady()
+                ? rollupRepository.findDays(userId, firstDay, nextMonth)
+                : scheduleRepository.aggregateDays(userId, from, to);
+        Map<LocalDate, ScheduleAgendaDay> days = new TreeMap<>();
+        singles.forEach(day -> days.put(day.getDate(), day));
+
+        // 반복 일정: 이번 달에 시작하는 발생만 더함
+        for (ScheduleResponse series : scheduleRepository.findSeriesOverlapping(userId, from, to)) {
+            for (ScheduleResponse occurrence : ScheduleOccurrences.expand(series, from, to)) {
+                LocalDateTime start = occurrence.getStartDateTime();
+                if (start.isBefore(from)) {
+                    continue;    // 지난달에 시작해서 이번 달까지 이어지는 발생
+                }
+                days.merge(start.toLocalDate(),
+                        new ScheduleAgendaDay(start.toLocalDate(), 1L, start, start),
+                        (existing, added) -> existing.plus(start));
+            }
+        }
+        return new ScheduleAgendaResponse(yearMonth, List.copyOf(days.values()));
+    }
+
+    // 빈 시간/바쁜 시간 (15분 단위 비트맵) - 날짜 [from, to)
+    @Transactional(readOnly = true)
+    public ScheduleFreeBusyResponse findFreeBusy(Long userId, LocalDate from, LocalDate to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("from은 to보다 이전이어야 합니다.");
+        }
+        LocalDateTime fromDateTime = from.atStartOfDay();
+        LocalDateTime toDateTime = to.atStartOfDay();
+        if (Duration.between(fromDateTime, toDateTime).compareTo(MAX_WINDOW) > 0) {
+            throw new BadRequestException("조회 기간은 최대 366일입니다.");
+        }
+        FreeBusyBitmap bitmap = new FreeBusyBitmap(from, to);
+
+        // 단일 일정: 캐시(날짜별 칸 수)에서 복사. 없으면 유저 전체 기간을 한 번 읽어서(한도까지만) 적재
+        boolean filled = false;
+        if (freeBusyCache.isEnabled()) {
+            filled = freeBusyCache.copyTo(userId, bitmap, from, to);
+            if (!filled && !freeBusyCache.isOversized(userId)) {
+                Object token = freeBusyCache.beginLoad(userId);
+                try {
+                    filled = freeBusyCache.load(userId,
+                            scheduleRepository.findSinglePeriodsByUserId(userId, Limit.of(freeBusyCache.loadLimit())),
+                            token, bitmap, from, to);
+                } finally {
+                    freeBusyCache.endLoad(userId, token);
+                }
+            }
+        }
+        if (!filled) {
+            // 캐시 꺼짐 또는 큰 유저: 조회 구간과 겹치는 일정만
+            scheduleRepository.findOverlapping(userId, fromDateTime, toDateTime)
+                    .forEach(schedule -> bitmap.mark(schedule.getStartDateTime(), schedule.getEndDateTime()));
+        }
+        // 반복 일정: 구간 안의 발생만 계산해서 표시
+        for (ScheduleResponse series : scheduleRepository.findSeriesOverlapping(userId, fromDateTime, toDateTime)) {
+            ScheduleOccurrences.expand(series, fromDateTime, toDateTime)
+                    .forEach(occurrence -> bitmap.mark(occurrence.getStartDateTime(), occurrence.getEndDateTime()));
+        }
+        return new ScheduleFreeBusyResponse(from, to, FreeBusyBitmap.SLOT_MINUTES, bitmap.encode());
+    }
+
+    // 검색 - 메모리 역색인에서 순위를 매기고, 해당 페이지의 일정만 DB에서 조회(IN 쿼리 1번)
+    @Transactional(readOnly = true)
+    public Page<ScheduleResponse> search(Long userId, String query, Pageable pageable) {
+        if (query == null || !ScheduleSearchIndex.hasTerms(query)) {
+            throw new BadRequestException("검색어를 입력해 주세요.");
+        }
+        List<Long> rankedIds = searchIndex.search(userId, query);
+        int fromIndex = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), rankedIds.size());
+        List<Long> pageIds = rankedIds.subList(fromIndex, toIndex);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, rankedIds.size());
+        }
+
+        Map<Long, ScheduleResponse> byId = new HashMap<>();
+        for (ScheduleResponse response : scheduleRepository.findResponsesByIds(pageIds)) {
+            byId.put(response.getScheduleId(), response);
+        }
+        List<ScheduleResponse> content = pageIds.stream()    // 색인 순위 순서대로
+                .map(byId::get)
+                .filter(Objects::nonNull)    // 색인 반영 전에 삭제된 일정은 제외
+                .toList();
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+
+    /*
     Hibernate:
     select
     u1_0.user_id,
-    u1_0.created_at,
-    u1_0.deleted,
     u1_0.email,
-    u1_0.modified_at,
-    u1_0.password,
-    u1_0.username
+    u1_0.username,
+    s1_0.schedule_id,
+    s1_0.title,
+    s1_0.content,
+    s1_0.start_date_time,
+    s1_0.end_date_time,
+    s1_0.created_at,
+    s1_0.modified_at
             from
+    schedule s1_0
+    join
     user u1_0
-    where
-    u1_0.user_id=?
+    on u1_0.user_id=s1_0.user_id
+            where
+    s1_0.schedule_id=?
+    and not(s1_0.deleted)
+    -> 쿼리 1번, password 컬럼 조회 안 함
     */
 
-    // 단건 조회
+    /** 단건 조회 ETag (본문 없이 버전만 조회)
+     * 없는 일정이거나 본인 일정이 아니면 null -> 일반 조회로 넘어가서 404/401 처리
+     */
     @Transactional(readOnly = true)
+    public String findETag(Long scheduleId, Long sessionUserId) {
+        return scheduleRepository.findVersionById(scheduleId)
+                .filter(version -> Objects.equals(version.getUserId(), sessionUserId))
+                .map(version -> ScheduleResponse.eTagOf(
+                        scheduleId, version.getVersion(), version.getUserVersion(), version.getCommentCount()))
+                .orElse(null);
+    }
+
+    /** 단건 조회
+     * 메서드에 @Transactional을 붙이지 않음 -> 캐시 적중 시 트랜잭션/커넥션 없이 반환
+     * 미스일 때만 로더 안에서 읽기 전용 트랜잭션을 열고 프로젝션 쿼리 1번 후 캐시에 저장
+     */
     public ScheduleResponse findMe(Long scheduleId, Long sessionUserId) {
-        Schedule schedule = scheduleRepository.findByScheduleIdAndDeletedFalse(scheduleId).orElseThrow(
-                () -> new NotFoundException("해당하는 일정이 없습니다.")
-        );
+        ScheduleResponse response = responseCache.get(
+                scheduleId, () -> readOnlyTransaction().execute(
+                        status -> scheduleRepository.findResponseById(scheduleId).orElse(null)));
+        if (response == null) {
+            throw new NotFoundException("해당하는 일정이 없습니다.");
+        }
 
         // NSF
-        if (!Objects.equals(schedule.getUser().getUserId(), sessionUserId)) {
+        if (!Objects.equals(response.getUserId(), sessionUserId)) {
             throw new UnauthorizedException("본인 일정만 조회 가능합니다.");
         }
+        return response;
+    }
 
-        User user = schedule.getUser();
-
-        return new ScheduleResponse(
-                user.getUserId(),
-                user.getEmail(),
-                user.getUsername(),
-                schedule.getScheduleId(),
-                schedule.getTitle(),
-                schedule.getContent(),
-                schedule.getStartDateTime(),
-                schedule.getEndDateTime()
-        );
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
     }
 
     /*
@@ -237,13 +528,7 @@ public class ScheduleService {
     s1_0.modified_at,
     s1_0.start_date_time,
     s1_0.title,
-    s1_0.user_id
-            from
-    schedule s1_0
-    where
-    s1_0.schedule_id=?
-    Hibernate:
-    select
+    s1_0.user_id,
     u1_0.user_id,
     u1_0.created_at,
     u1_0.deleted,
@@ -252,9 +537,12 @@ public class ScheduleService {
     u1_0.password,
     u1_0.username
             from
+    schedule s1_0
+    join
     user u1_0
+    on u1_0.user_id=s1_0.user_id
     where
-    u1_0.user_id=?
+    s1_0.schedule_id=?
     Hibernate:
     update
             schedule
@@ -268,28 +556,110 @@ public class ScheduleService {
     user_id=?
     where
     schedule_id=?
+    -> @DynamicUpdate 적용 후 제목만 바뀌면
+    update schedule set title=?, modified_at=?, version=? where schedule_id=? and version=?
+    바뀐 값이 없으면 update 없음
     */
 
     // 수정
     @Transactional
-    public ScheduleResponse updateMe(Long scheduleId, Long sessionUserId, ScheduleUpdateRequest updateRequest) {
-        Schedule schedule = scheduleRepository.findById(scheduleId).orElseThrow(
+    public ScheduleSaveResult updateMe(
+            Long scheduleId,
+            Long sessionUserId,
+            ScheduleUpdateRequest updateRequest,
+            ScheduleConflictPolicy conflictPolicy,
+            String ifMatch
+    ) {
+        validatePeriod(updateRequest.getStartDateTime(), updateRequest.getEndDateTime());
+        RecurrenceRule rule = RecurrenceRule.parse(updateRequest.getRecurrenceRule());
+        Schedule schedule = findMyScheduleForUpdate(scheduleId, sessionUserId, ifMatch);
+        return applyUpdate(schedule, sessionUserId, updateRequest, rule, conflictPolicy);
+    }
+
+    /** 부분 수정 (JSON Merge Patch)
+     * 현재 값에 patch를 덮어써서 PUT과 같은 요청으로 만든 뒤 같은 검증/겹침 검사/수정 로직 사용
+     * 바뀐 컬럼만 UPDATE(@DynamicUpdate), 아무것도 안 바뀌면 UPDATE와 변경 이벤트 없음
+     */
+    @Transactional
+    public ScheduleSaveResult patchMe(
+            Long scheduleId,
+            Long sessionUserId,
+            JsonNode patch,
+            ScheduleConflictPolicy conflictPolicy,
+            String ifMatch
+    ) {
+        Schedule schedule = findMyScheduleForUpdate(scheduleId, sessionUserId, ifMatch);
+        ScheduleUpdateRequest current = new ScheduleUpdateRequest(
+                schedule.getTitle(),
+                schedule.getContent(),
+                schedule.getStartDateTime(),
+                schedule.getEndDateTime(),
+                schedule.getRecurrenceRule(),
+                Schedule.parseExceptionDates(schedule.getExceptionDates()).stream().sorted().toList(),
+                schedule.getReminderMinutes()
+        );
+        ScheduleUpdateRequest updateRequest = mergePatcher.apply(current, patch, ScheduleUpdateRequest.class);
+        validatePeriod(updateRequest.getStartDateTime(), updateRequest.getEndDateTime());
+        RecurrenceRule rule = RecurrenceRule.parse(updateRequest.getRecurrenceRule());
+        return applyUpdate(schedule, sessionUserId, updateRequest, rule, conflictPolicy);
+    }
+
+    // 수정 대상 조회: schedule + user 조인 1번, 본인 확인, If-Match 확인
+    private Schedule findMyScheduleForUpdate(Long scheduleId, Long sessionUserId, String ifMatch) {
+        Schedule schedule = scheduleRepository.findWithUserById(scheduleId).orElseThrow(
                 () -> new NotFoundException("해당하는 일정이 없습니다.")
         );
         // NSF
         if (!Objects.equals(schedule.getUser().getUserId(), sessionUserId)) {
             throw new UnauthorizedException("본인 일정만 수정 가능합니다.");
         }
+        // If-Match: 클라이언트가 본 일정 버전과 다르면 412. 이후 동시 수정은 @Version이 UPDATE 시점에 막음
+        // 일정 자신의 버전만 비교 (작성자 이름 변경 등 일정 행이 그대로인 변경으로는 412가 되지 않음)
+        if (!ETags.matchesLeading(ifMatch, scheduleId, schedule.getVersion())) {
+            throw new PreconditionFailedException("일정이 변경되었습니다. 다시 조회한 뒤 수정해 주세요.");
+        }
+        return schedule;
+    }
+
+    private ScheduleSaveResult applyUpdate(
+            Schedule schedule,
+            Long sessionUserId,
+            ScheduleUpdateRequest updateRequest,
+            RecurrenceRule rule,
+            ScheduleConflictPolicy conflictPolicy
+    ) {
+        Long scheduleId = schedule.getScheduleId();
+        if (conflictPolicy != ScheduleConflictPolicy.NONE) {
+            userRepository.findByIdForUpdate(sessionUserId);    // 같은 유저의 동시 쓰기 직렬화
+        }
+        ScheduleConflictResolution resolution = conflictChecker.resolve(
+                sessionUserId, scheduleId, updateRequest.getStartDateTime(), updateRequest.getEndDateTime(),
+                rule, updateRequest.getExceptionDates(), conflictPolicy);
 
+        List<SchedulePeriod> before = periodOf(schedule);    // 빈 시간 캐시에서 뺄 수정 전 기간
+        Long versionBefore = schedule.getVersion();
+        Integer reminderBefore = schedule.getReminderMinutes();
         schedule.updateSchedule(
                 updateRequest.getTitle(),
                 updateRequest.getContent(),
-                updateRequest.getStartDateTime(),
-                updateRequest.getEndDateTime()
+                resolution.getStartDateTime(),
+                resolution.getEndDateTime()
         );
+        schedule.applyRecurrence(rule, updateRequest.getExceptionDates());    // 기간이 바뀌었을 수 있으므로 updateSchedule 이후
+        schedule.applyReminder(updateRequest.getReminderMinutes());
+        scheduleRepository.flush();    // UPDATE를 먼저 실행해서 @LastModifiedDate가 갱신된 modifiedAt으로 응답
+        // 바뀐 값이 없으면 UPDATE가 실행되지 않아 버전도 그대로 -> 캐시/색인 무효화할 것도 없음
+        if (!Objects.equals(versionBefore, schedule.getVersion())) {
+            eventPublisher.publishEvent(new ScheduleChangedEvent(
+                    sessionUserId, scheduleId, ScheduleChangedEvent.Type.UPDATED));
+            eventPublisher.publishEvent(new SchedulePeriodChangedEvent(sessionUserId, before, periodOf(schedule)));
+            if (reminderBefore != null || schedule.getReminderMinutes() != null) {
+                reminderOutbox.sync(schedule);    // 시각/반복/알림 분이 바뀌었을 수 있으므로 다시 예약
+            }
+        }
         User user = schedule.getUser();
 
-        return new ScheduleResponse(
+        ScheduleResponse response = new ScheduleResponse(
                 user.getUserId(),
                 user.getEmail(),
                 user.getUsername(),
@@ -297,8 +667,17 @@ public class ScheduleService {
                 schedule.getTitle(),
                 schedule.getContent(),
                 schedule.getStartDateTime(),
-                schedule.getEndDateTime()
+                schedule.getEndDateTime(),
+                schedule.getCreatedAt(),
+                schedule.getModifiedAt(),
+                schedule.getRecurrenceRule(),
+                schedule.getExceptionDates(),
+                schedule.getReminderMinutes(),
+                schedule.getCommentCount(),
+                schedule.getVersion(),
+                user.getVersion()
         );
+        return new ScheduleSaveResult(response, resolution.getConflictScheduleIds(), resolution.isShifted());
     }
 
     /*
@@ -345,7 +724,18 @@ public class ScheduleService {
             throw new UnauthorizedException("본인 일정만 삭제 가능합니다.");
         }
         // Soft Delete
+        boolean wasDeleted = schedule.isDeleted();
+        List<SchedulePeriod> before = periodOf(schedule);    // 이미 삭제된 일정이면 빈 리스트
         schedule.softDelete();      // deleted = true
+        if (!wasDeleted) {    // 이미 삭제된 일정이면 댓글 UPDATE, 이벤트(스트림 종료 포함) 없음
+            if (schedule.getReminderMinutes() != null) {
+                reminderOutbox.cancel(List.of(scheduleId));
+            }
+            commentCascade.deleteWithSchedules(List.of(scheduleId));    // 댓글 UPDATE 1번 + 댓글 수 0
+            eventPublisher.publishEvent(new ScheduleChangedEvent(
+                    sessionUserId, scheduleId, ScheduleChangedEvent.Type.DELETED));
+            eventPublisher.publishEvent(new SchedulePeriodChangedEvent(sessionUserId, before, List.of()));
+        }
 //        scheduleRepository.save(schedule);
     }
 
@@ -408,6 +798,96 @@ public class ScheduleService {
             throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
         }
         // 복구
+        boolean wasDeleted = schedule.isDeleted();
         schedule.restore();
+        List<SchedulePeriod> after = wasDeleted ? periodOf(schedule) : List.of();    // 삭제 상태였던 경우만 다시 더함
+        if (wasDeleted && schedule.getReminderMinutes() != null) {
+            reminderOutbox.sync(schedule);    // 아직 남은 발생이 있으면 알림 다시 예약
+        }
+        if (wasDeleted) {
+            commentCascade.restoreWithSchedules(List.of(scheduleId));    // 일정과 함께 삭제된 댓글만 복구
+        }
+        eventPublisher.publishEvent(new ScheduleChangedEvent(
+                sessionUserId, scheduleId, ScheduleChangedEvent.Type.RESTORED));
+        eventPublisher.publishEvent(new SchedulePeriodChangedEvent(sessionUserId, List.of(), after));
+    }
+
+    /** 일괄 삭제/복구
+     * 단건 API를 N번 호출하면 일정 조회 + 유저 조회 + bcrypt + 행 전체 UPDATE가 N번
+     * -> 비밀번호 확인 1번, 대상 조회(행 잠금) 1번, 집합 단위 UPDATE 1번
+     * 캐시/검색 색인/빈 시간/일별 집계는 대상 ID 목록을 담은 이벤트 하나씩으로 반영
+     */
+    @Transactional
+    public ScheduleBulkResponse bulkDelete(Long sessionUserId, ScheduleBulkRequest bulkRequest) {
+        return bulkChangeDeleted(sessionUserId, bulkRequest, true);
+    }
+
+    @Transactional
+    public ScheduleBulkResponse bulkRestore(Long sessionUserId, ScheduleBulkRequest bulkRequest) {
+        return bulkChangeDeleted(sessionUserId, bulkRequest, false);
+    }
+
+    private ScheduleBulkResponse bulkChangeDeleted(Long sessionUserId, ScheduleBulkRequest bulkRequest, boolean delete) {
+        User user = userRepository.findById(sessionUserId).orElseThrow(
+                () -> new NotFoundException("해당하는 계정이 없습니다.")
+        );
+        if (!passwordEncoder.matches(bulkRequest.getPassword(), user.getPassword())) {
+            throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
+        }
+        // 현재 상태가 반대인 본인 일정만 대상 (삭제 -> deleted = false인 일정, 복구 -> deleted = true인 일정)
+        List<Schedule> targets = findBulkTargets(sessionUserId, bulkRequest, !delete);
+        if (targets.isEmpty()) {
+            return new ScheduleBulkResponse(List.of());
+        }
+        List<Long> scheduleIds = targets.stream().map(Schedule::getScheduleId).toList();
+        List<SchedulePeriod> periods = targets.stream()
+                .filter(schedule -> !schedule.isRecurring())
+                .map(schedule -> new SchedulePeriod(schedule.getStartDateTime(), schedule.getEndDateTime()))
+                .toList();
+
+        List<Long> reminderIds = targets.stream()
+                .filter(schedule -> schedule.getReminderMinutes() != null)
+                .map(Schedule::getScheduleId)
+                .toList();
+
+        scheduleRepository.updateDeletedByIds(sessionUserId, scheduleIds, delete, LocalDateTime.now());
+        if (!reminderIds.isEmpty()) {
+            if (delete) {
+                reminderOutbox.cancel(reminderIds);
+            } else {    // UPDATE 후 영속성 컨텍스트가 비워졌으므로 복구된 상태로 다시 조회해서 예약
+                scheduleRepository.findAllById(reminderIds).forEach(reminderOutbox::sync);
+            }
+        }
+        if (delete) {    // 댓글도 집합 단위 UPDATE 1번
+            commentCascade.deleteWithSchedules(scheduleIds);
+        } else {
+            commentCascade.restoreWithSchedules(scheduleIds);
+        }
+
+        eventPublisher.publishEvent(new ScheduleChangedEvent(sessionUserId, scheduleIds,
+                delete ? ScheduleChangedEvent.Type.DELETED : ScheduleChangedEvent.Type.RESTORED));
+        eventPublisher.publishEvent(delete
+                ? new SchedulePeriodChangedEvent(sessionUserId, periods, List.of())
+                : new SchedulePeriodChangedEvent(sessionUserId, List.of(), periods));
+        return new ScheduleBulkResponse(scheduleIds);
+    }
+
+    private List<Schedule> findBulkTargets(Long sessionUserId, ScheduleBulkRequest bulkRequest, boolean deleted) {
+        if (bulkRequest.hasScheduleIds() == bulkRequest.hasRange()) {
+            throw new BadRequestException("scheduleIds 또는 기간(from, to) 중 하나만 입력해야 합니다.");
+        }
+        if (bulkRequest.hasScheduleIds()) {
+            return scheduleRepository.findBulkTargetsByIds(sessionUserId, deleted, bulkRequest.getScheduleIds());
+        }
+        if (bulkRequest.getFrom() == null || bulkRequest.getTo() == null) {
+            throw new BadRequestException("기간은 from, to를 모두 입력해야 합니다.");
+        }
+        validatePeriod(bulkRequest.getFrom(), bulkRequest.getTo());
+        List<Schedule> targets = scheduleRepository.findBulkTargetsByStart(
+                sessionUserId, deleted, bulkRequest.getFrom(), bulkRequest.getTo(), Limit.of(MAX_BULK_SIZE + 1));
+        if (targets.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("한 번에 최대 " + MAX_BULK_SIZE + "건까지 처리 가능합니다. 기간을 줄여 주세요.");
+        }
+        return targets;
     }
 }
@@ -1,15 +1,20 @@
 package org.example.ch3schedulerprojectreview.user.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.ch3schedulerprojectreview.common.constants.auth.SessionKey;
+import org.example.ch3schedulerprojectreview.common.patch.JsonMergePatcher;
 import org.example.ch3schedulerprojectreview.user.dto.*;
 import org.example.ch3schedulerprojectreview.user.service.UserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController    // REST API 컨트롤러임을 명시. JSON 형태 응답을 자동 반환
 @RequiredArgsConstructor    // final 필드를 생성자로 주입하도록 생성자 자동 생성
@@ -76,15 +81,25 @@ public class UserController {
     // 조회
     @GetMapping("/me")
     public ResponseEntity<UserResponse> findMe(
-            HttpServletRequest servletRequest
+            HttpServletRequest servletRequest,
+            WebRequest webRequest,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
         HttpSession session = servletRequest.getSession(false);
         // 세션에서 사용자 정보 가져오기
         Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
 
+        // If-None-Match가 현재 버전과 같으면 304 Not Modified(본문 없음)
+        // 헤더가 없으면 버전 조회 없이 바로 본문 조회 (쿼리 1번)
+        if (ifNoneMatch != null) {
+            String eTag = userService.findETag(sessionUserId);
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
         UserResponse response = userService.findMe(sessionUserId);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(response.toETag()).body(response);
     }
 
     // 수정
@@ -102,4 +117,18 @@ public class UserController {
 
         return ResponseEntity.ok(updatedUser);
     }
+
+    // 부분 수정 (JSON Merge Patch). {"password": 본인 확인, "userName": 바꿀 이름}
+    @PatchMapping(value = "/me", consumes = {JsonMergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<UserResponse> patchMe(
+            HttpServletRequest servletRequest,
+            @RequestBody JsonNode patch
+    ) {
+        HttpSession session = servletRequest.getSession(false);
+        Long sessionUserId = (Long) session.getAttribute(SessionKey.SESSION_KEY);
+
+        UserResponse patchedUser = userService.patchMe(sessionUserId, patch);
+
+        return ResponseEntity.ok(patchedUser);
+    }
 }
@@ -1,6 +1,8 @@
 package org.example.ch3schedulerprojectreview.user.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
+import org.example.ch3schedulerprojectreview.common.etag.ETags;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +15,8 @@ public class UserResponse {
     private final String userName;
     private final LocalDateTime createAt;
     private final LocalDateTime modifiedAt;
+    @JsonIgnore    // ETag 계산용. 본문에는 넣지 않음 (단건 조회에서만 채움)
+    private final Long version;
 
     public UserResponse(
             Long userId,
@@ -20,11 +24,22 @@ public class UserResponse {
             String userName,
             LocalDateTime createAt,
             LocalDateTime modifiedAt) {
+        this(userId, email, userName, createAt, modifiedAt, null);
+    }
+
+    public UserResponse(
+            Long userId,
+            String email,
+            String userName,
+            LocalDateTime createAt,
+            LocalDateTime modifiedAt,
+            Long version) {
         this.userId = userId;
         this.email = email;
         this.userName = userName;
         this.createAt = createAt;
         this.modifiedAt = modifiedAt;
+        this.version = version;
 
       /** 생성자(Constructor)
        * DTO 객체 생성 시 모든 필드를 한 번에 초기화
@@ -32,4 +47,9 @@ public class UserResponse {
        * 생성 후에는 값 변경 불가
       */
     }
+
+    // UserService.findETag와 같은 값. version이 없으면 null
+    public String toETag() {
+        return version == null ? null : ETags.of(userId, version);
+    }
 }
@@ -4,8 +4,10 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor
 public class UserUpdateRequest {
 
     // 비밀번호: 8~16자, 대소문자, 숫자, 특수문자 최소 1개씩 포함
@@ -16,4 +18,9 @@ public class UserUpdateRequest {
     @NotBlank(message = "사용자 이름은 필수입니다.")
     @Size(min = 2, max = 30, message = "사용자 이름은 2~30자입니다.")
     private String userName;
+
+    // PATCH(merge patch)용. 비밀번호는 본인 확인용이라 현재 값 없이 patch 본문에서만 받음
+    public UserUpdateRequest(String userName) {
+        this.userName = userName;
+    }
 }
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.example.ch3schedulerprojectreview.common.entity.BaseEntity;
 
 @Entity
@@ -46,6 +47,7 @@ import org.example.ch3schedulerprojectreview.common.entity.BaseEntity;
  * : 기본 생성자의 접근 수준을 PROTECTED로 제한. 외부에서 무분별하게 new ...() 방지
  *   PROTECTED : 같은 패키지 또는 자식 클래스만 생성자 호출 가능
  */
+@DynamicUpdate    // 바뀐 컬럼만 UPDATE (Schedule 참고)
 @Table(name = "user")    // 엔티티가 매핑될 실제 DB 테이블 이름을 지정
 public class User extends BaseEntity {
 
@@ -89,6 +91,11 @@ public class User extends BaseEntity {
          */
     }
 
+    // 이름만 수정. 같은 이름이면 변경 감지에 걸리지 않아 UPDATE 없음
+    public void updateUsername(String username) {
+        this.username = username;
+    }
+
     public void updateUser(String password, String username) {
         this.password = password;
         this.username = username;
@@ -1,7 +1,11 @@
 package org.example.ch3schedulerprojectreview.user.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.ch3schedulerprojectreview.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -44,6 +48,19 @@ public interface UserRepository extends JpaRepository<User, Long> {    // User =
      *    FROM user
      *    WHERE email = ? AND deleted = false;
      */
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.userId = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
+    /** 비관적 쓰기 락으로 사용자 조회
+     * 최종 SQL -> SELECT * FROM user WHERE user_id = ? FOR UPDATE
+     * 트랜잭션이 끝날 때까지 같은 유저 행을 잠그는 다른 트랜잭션은 대기
+     * -> 같은 유저의 일정 겹침 검사 + 저장을 한 번에 하나씩 처리
+     */
+
+    // ETag 확인용. 엔티티 로딩 없이 버전 컬럼만 조회
+    @Query("select u.version from User u where u.userId = :userId")
+    Optional<Long> findVersionById(@Param("userId") Long userId);
 }
 /** 인터페이스로 선언된 이유:
  * JpaRepository 기능 상속을 받음으로써 기본 메서드를 자동 제공받아 메서드 직접 구현할 필요 X
@@ -1,19 +1,25 @@
 package org.example.ch3schedulerprojectreview.user.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
+import org.example.ch3schedulerprojectreview.common.etag.ETags;
 import org.example.ch3schedulerprojectreview.common.exception.custom.ConflictException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.NotFoundException;
 import org.example.ch3schedulerprojectreview.common.exception.custom.UnauthorizedException;
+import org.example.ch3schedulerprojectreview.common.patch.JsonMergePatcher;
 import org.example.ch3schedulerprojectreview.config.PasswordEncoder;
-import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.reminder.ScheduleReminderOutbox;
 import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
 import org.example.ch3schedulerprojectreview.user.dto.*;
 import org.example.ch3schedulerprojectreview.user.entity.User;
 import org.example.ch3schedulerprojectreview.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Service
 /**
@@ -31,6 +37,9 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final ScheduleRepository scheduleRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JsonMergePatcher mergePatcher;
+    private final ScheduleReminderOutbox reminderOutbox;
 
     /** @RequiredArgsConstructor이 없으면,
      * public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
@@ -170,20 +179,21 @@ public class UserService {
         if (!passwordEncoder.matches(withdrawRequest.getPassword(), user.getPassword())) {
             throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");    // 401
         }
-        // 유저의 모든 스케줄 조회 * -> 유저가 스케줄을 반복문
-        // 조건을 특정해서 쿼리문 줄이기 -> update schedule s set s.isDeleted = ture where s.user_id = 1; -> 새로 만든다. 쿼리메서드
-        List<Schedule> schedules = scheduleRepository.findByUserUserIdAndDeletedFalse(userId);
-        for (Schedule schedule : schedules) {
-            schedule.softDelete();  // Schedule deleted = true
-        }
         // Soft Delete
         user.softDelete();
         /**
          * deleted = true
          * 소프트 딜리트 -> DB row 삭제는 안 하고 deleted 컬럼만 true로 변경
          * 더티 체킹으로 자동 UPDATE
+         * 아래 벌크 UPDATE가 영속성 컨텍스트를 비우므로(clearAutomatically) 그 전에 변경해야 flush 됨
          */
 //        userRepository.save(user);
+        // 유저의 남은 일정 전체: 일정을 하나씩 읽어서 바꾸지 않고 update schedule ... where user_id = ? 1번
+        scheduleRepository.softDeleteAllByUserId(userId, LocalDateTime.now());
+        reminderOutbox.cancelByUser(userId);    // 남은 알림 예약도 함께 삭제
+        // 일정에 달린 댓글은 커밋 이후 CommentCascade가 일정 묶음 단위로 나눠서 삭제 (일정이 많은 계정도 이 트랜잭션은 짧게)
+        eventPublisher.publishEvent(new ScheduleChangedEvent(
+                userId, null, ScheduleChangedEvent.Type.USER_WITHDRAWN));
     }
 
     /*
@@ -202,6 +212,14 @@ public class UserService {
     u1_0.user_id=?
     */
 
+    // ETag 조회: 버전만 확인(If-None-Match 비교용). 없는 계정이면 null -> 본문 조회에서 404
+    @Transactional(readOnly = true)
+    public String findETag(Long userId) {
+        return userRepository.findVersionById(userId)
+                .map(version -> ETags.of(userId, version))
+                .orElse(null);
+    }
+
     // 조회
     @Transactional(readOnly = true)
     public UserResponse findMe(Long userId) {    // 세션 기반 ID로 회원 정보 조회 -> Response DTO 반환
@@ -213,7 +231,8 @@ public class UserService {
                 user.getEmail(),
                 user.getUsername(),
                 user.getCreatedAt(),
-                user.getModifiedAt()
+                user.getModifiedAt(),
+                user.getVersion()
         );
     }
 
@@ -261,6 +280,38 @@ public class UserService {
                 encodedPassword,
                 updateRequest.getUserName()
         );
+        eventPublisher.publishEvent(new ScheduleChangedEvent(
+                userId, null, ScheduleChangedEvent.Type.USER_UPDATED));
+        return new UserResponse(
+                user.getUserId(),
+                user.getEmail(),
+                user.getUsername(),
+                user.getCreatedAt(),
+                user.getModifiedAt()
+        );
+    }
+
+    /** 부분 수정 (JSON Merge Patch)
+     * 수정 가능한 값은 userName. password는 본인 확인용으로 patch 본문에 필수
+     * PUT과 달리 비밀번호를 다시 해시하지 않음 -> 이름이 같으면 UPDATE 없음
+     */
+    @Transactional
+    public UserResponse patchMe(Long userId, JsonNode patch) {
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new NotFoundException("해당하는 계정이 없습니다.")
+        );
+        UserUpdateRequest updateRequest = mergePatcher.apply(
+                new UserUpdateRequest(user.getUsername()), patch, UserUpdateRequest.class);
+        if (!passwordEncoder.matches(updateRequest.getPassword(), user.getPassword())) {
+            throw new UnauthorizedException("비밀번호가 일치하지 않습니다.");
+        }
+        Long versionBefore = user.getVersion();
+        user.updateUsername(updateRequest.getUserName());
+        userRepository.flush();    // 바뀐 컬럼만 UPDATE, 갱신된 modifiedAt으로 응답
+        if (!Objects.equals(versionBefore, user.getVersion())) {
+            eventPublisher.publishEvent(new ScheduleChangedEvent(
+                    userId, null, ScheduleChangedEvent.Type.USER_UPDATED));
+        }
         return new UserResponse(
                 user.getUserId(),
                 user.getEmail(),
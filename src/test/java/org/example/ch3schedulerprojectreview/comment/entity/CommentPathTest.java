@@ -0,0 +1,95 @@
+package org.example.ch3schedulerprojectreview.comment.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 답글 경로(CommentPath)의 정렬, 하위 트리 범위
+ * 바이너리 정렬(String.compareTo)과 MySQL 기본 콜레이션(utf8mb4_0900_ai_ci) 둘 다 확인
+ * 0900_ai_ci 대신 같은 UCA 규칙의 Collator(Locale.ROOT)를 씀: 기호 < 숫자 < 문자 ('~'가 숫자보다 앞)
+ * 실제 MySQL에서의 확인은 CommentThreadMySqlTest
+ */
+class CommentPathTest {
+
+    private static final Comparator<String> BINARY = Comparator.naturalOrder();
+    private static final Comparator<Object> UCA = Collator.getInstance(Locale.ROOT);
+    private static final List<Comparator<? super String>> ORDERS = List.of(BINARY, UCA);
+
+    @Test
+    void segmentHasFixedLength() {
+        String root = CommentPath.child(null);
+        String reply = CommentPath.child(root);
+
+        assertThat(root).hasSize(CommentPath.SEGMENT_LENGTH).endsWith("/").matches("[0-9a-z/]+");
+        assertThat(reply).hasSize(2 * CommentPath.SEGMENT_LENGTH).startsWith(root);
+    }
+
+    @Test
+    void pathOrderIsDepthFirstUnderBothCollations() throws InterruptedException {
+        List<String> thread = thread();
+
+        for (Comparator<? super String> order : ORDERS) {
+            List<String> sorted = new ArrayList<>(thread);
+            sorted.sort(order);
+            assertThat(sorted).containsExactlyElementsOf(thread);
+        }
+    }
+
+    @Test
+    void subtreeRangeHoldsExactlyDescendantsUnderBothCollations() throws InterruptedException {
+        List<String> thread = thread();    // root1, reply1, reply1-1, reply2, root2
+        String root1 = thread.get(0);
+        String reply1 = thread.get(1);
+
+        for (Comparator<? super String> order : ORDERS) {
+            assertThat(inRange(thread, root1, CommentPath.subtreeEnd(root1), order))
+                    .containsExactlyElementsOf(thread.subList(0, 4));
+            assertThat(inRange(thread, reply1, CommentPath.subtreeEnd(reply1), order))
+                    .containsExactly(reply1, thread.get(2));
+        }
+    }
+
+    @Test
+    void tildeBoundDropsDescendantsUnderMySqlDefaultCollation() throws InterruptedException {
+        List<String> thread = thread();
+        String root1 = thread.get(0);
+
+        // 예전 경계 path + "~": 바이너리에서만 맞고 0900_ai_ci에서는 하위 댓글이 전부 범위 밖
+        assertThat(inRange(thread, root1, root1 + "~", BINARY)).hasSize(4);
+        assertThat(inRange(thread, root1, root1 + "~", UCA)).containsExactly(root1);
+    }
+
+    @Test
+    void fitsWithinColumnLength() {
+        assertThat(CommentPath.fits(0)).isTrue();
+        assertThat(CommentPath.fits(14)).isTrue();     // 15구간 x 16자 = 240
+        assertThat(CommentPath.fits(15)).isFalse();    // 16구간 x 16자 = 256 > 255
+    }
+
+    // 스레드 순서대로 생성: root1, reply1, reply1-1, reply2, root2. 구간의 시각이 달라지도록 사이에 잠깐 대기
+    private static List<String> thread() throws InterruptedException {
+        String root1 = next(null);
+        String reply1 = next(root1);
+        String reply11 = next(reply1);
+        String reply2 = next(root1);
+        String root2 = next(null);
+        return List.of(root1, reply1, reply11, reply2, root2);
+    }
+
+    private static String next(String parentPath) throws InterruptedException {
+        Thread.sleep(2);
+        return CommentPath.child(parentPath);
+    }
+
+    private static List<String> inRange(List<String> paths, String start, String end, Comparator<? super String> order) {
+        return paths.stream()
+                .filter(path -> order.compare(path, start) >= 0 && order.compare(path, end) < 0)
+                .toList();
+    }
+}
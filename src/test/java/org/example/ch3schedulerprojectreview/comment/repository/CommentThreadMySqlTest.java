@@ -0,0 +1,127 @@
+package org.example.ch3schedulerprojectreview.comment.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentThreadRow;
+import org.example.ch3schedulerprojectreview.comment.entity.Comment;
+import org.example.ch3schedulerprojectreview.comment.entity.CommentPath;
+import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.user.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 답글 스레드 쿼리를 실제 MySQL 기본 콜레이션(utf8mb4_0900_ai_ci)에서 확인
+ * path 범위 경계가 콜레이션에 따라 달라지지 않는지, 삭제된 조상 아래 답글이 자리 표시와 함께 나오는지
+ * findThreadRows는 LATERAL(MySQL 8.0.14+)이라 H2로는 못 돌림 -> Testcontainers. Docker 없으면 건너뜀
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class CommentThreadMySqlTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0.36");
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Schedule schedule;
+    private Comment root;
+    private Comment reply;
+    private Comment nested;
+    private Comment otherRoot;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        User user = new User("writer@example.com", "password", "writer");
+        entityManager.persist(user);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        schedule = new Schedule("일정", "내용", start, start.plusHours(1), user);
+        entityManager.persist(schedule);
+
+        root = persist(new Comment(user, schedule, "루트"));
+        reply = persist(Comment.reply(user, root, "답글"));
+        nested = persist(Comment.reply(user, reply, "답글의 답글"));
+        otherRoot = persist(new Comment(user, schedule, "다른 루트"));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void columnUsesServerDefaultCollation() {
+        Object collation = entityManager.createNativeQuery(
+                        "select collation_name from information_schema.columns " +
+                                "where table_schema = database() and table_name = 'comment' and column_name = 'path'")
+                .getSingleResult();
+
+        assertThat(collation).isEqualTo("utf8mb4_0900_ai_ci");    // '~'가 숫자보다 앞에 오는 콜레이션
+    }
+
+    @Test
+    void threadRowsIncludeReplies() {
+        List<CommentThreadRow> rows = commentRepository.findThreadRows(schedule.getScheduleId(), 0, 10, 10);
+
+        assertThat(rows).extracting(CommentThreadRow::getId)
+                .containsExactly(otherRoot.getId(), root.getId(), reply.getId(), nested.getId());
+    }
+
+    @Test
+    void subtreePageIncludesDescendants() {
+        List<Comment> page = commentRepository.findSubtreePage(
+                root.getPath(), CommentPath.subtreeEnd(root.getPath()), Integer.MAX_VALUE, Limit.of(10));
+
+        assertThat(page).extracting(Comment::getId).containsExactly(reply.getId(), nested.getId());
+    }
+
+    @Test
+    void deletedAncestorsStayAsTombstones() {
+        softDelete(root);
+        softDelete(reply);
+
+        List<CommentThreadRow> rows = commentRepository.findThreadRows(schedule.getScheduleId(), 0, 10, 10);
+
+        assertThat(rows).extracting(CommentThreadRow::getId)
+                .containsExactly(otherRoot.getId(), root.getId(), reply.getId(), nested.getId());
+        assertThat(rows).extracting(CommentThreadRow::getDeleted).containsExactly(false, true, true, false);
+    }
+
+    @Test
+    void deletedLeafWithoutLiveRepliesIsHidden() {
+        softDelete(nested);
+        softDelete(reply);
+        softDelete(root);
+
+        List<CommentThreadRow> rows = commentRepository.findThreadRows(schedule.getScheduleId(), 0, 10, 10);
+
+        assertThat(rows).extracting(CommentThreadRow::getId).containsExactly(otherRoot.getId());
+    }
+
+    private Comment persist(Comment comment) throws InterruptedException {
+        Thread.sleep(2);    // 생성 시각(created_at, path 구간)이 달라지도록
+        entityManager.persist(comment);
+        entityManager.flush();    // 답글이 부모 ID를 쓰도록 바로 INSERT
+        return comment;
+    }
+
+    private void softDelete(Comment comment) {
+        entityManager.find(Comment.class, comment.getId()).softDelete();
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.ch3schedulerprojectreview.comment.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.ch3schedulerprojectreview.comment.dto.CommentResponse;
+import org.example.ch3schedulerprojectreview.comment.entity.Comment;
+import org.example.ch3schedulerprojectreview.common.patch.JsonMergePatcher;
+import org.example.ch3schedulerprojectreview.config.PasswordEncoder;
+import org.example.ch3schedulerprojectreview.schedule.entity.Schedule;
+import org.example.ch3schedulerprojectreview.user.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 유저 댓글 피드(GET /users/{userId}/comments)의 SQL 개수
+ * 일정 작성자가 모두 다르면 예전 fetch plan은 본문 + COUNT + 일정 작성자 수만큼 SELECT
+ * -> 지금은 페이지 크기, 일정 작성자 수와 상관없이 본문 1번 + COUNT 1번
+ * MySQL 대신 H2(MySQL 모드)로 실행. user는 H2 예약어라 NON_KEYWORDS로 풀어줌
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-feed;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CommentService.class, PasswordEncoder.class})
+class CommentFeedQueryCountTest {
+
+    private static final int SCHEDULE_OWNERS = 6;
+    private static final int PAGE_SIZE = 5;    // 전체보다 작게 -> COUNT 쿼리도 실행됨
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private JsonMergePatcher mergePatcher;    // 피드 조회에서는 쓰지 않음
+
+    @Test
+    void userFeedPageCostsOneSelectPlusCount() {
+        User commenter = new User("commenter@example.com", "password", "commenter");
+        entityManager.persist(commenter);
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < SCHEDULE_OWNERS; i++) {
+            User owner = new User("owner" + i + "@example.com", "password", "owner" + i);
+            entityManager.persist(owner);
+            Schedule schedule = new Schedule("일정 " + i, "내용", start, start.plusHours(1), owner);
+            entityManager.persist(schedule);
+            entityManager.persist(new Comment(commenter, schedule, "댓글 " + i));
+        }
+        entityManager.flush();
+        entityManager.clear();    // 영속성 컨텍스트를 비워서 모든 엔티티를 DB에서 다시 읽게 함
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<CommentResponse> page = commentService.findAllByUserId(
+                commenter.getUserId(), PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt").descending()));
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getTotalElements()).isEqualTo(SCHEDULE_OWNERS);
+        assertThat(page.getContent())
+                .extracting(comment -> comment.getSchedule().getEmail())
+                .allMatch(email -> email.startsWith("owner"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);    // 본문 + COUNT
+    }
+}
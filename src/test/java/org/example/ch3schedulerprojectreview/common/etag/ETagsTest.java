@@ -0,0 +1,81 @@
+package org.example.ch3schedulerprojectreview.common.etag;
+
+import org.example.ch3schedulerprojectreview.schedule.dto.ScheduleResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** ETag 생성과 If-Match 비교
+ * 일정 응답의 ETag는 본문과 같은 시점의 버전 + 댓글 수로 계산
+ */
+class ETagsTest {
+
+    @Test
+    void joinsPartsInQuotes() {
+        assertThat(ETags.of(12L, 3L, 1L)).isEqualTo("\"12.3.1\"");
+        assertThat(ETags.of(7L, null)).isEqualTo("\"7.null\"");
+    }
+
+    @Test
+    void missingIfMatchIsNotChecked() {
+        assertThat(ETags.matches(null, "\"1.0\"")).isTrue();
+        assertThat(ETags.matches(" ", "\"1.0\"")).isTrue();
+    }
+
+    @Test
+    void matchesAnyTagInList() {
+        assertThat(ETags.matches("*", "\"1.0\"")).isTrue();
+        assertThat(ETags.matches("\"1.0\"", "\"1.0\"")).isTrue();
+        assertThat(ETags.matches("\"1.1\" , \"1.0\"", "\"1.0\"")).isTrue();
+        assertThat(ETags.matches("\"1.1\"", "\"1.0\"")).isFalse();
+        assertThat(ETags.matches("1.0", "\"1.0\"")).isFalse();    // 따옴표 없는 값은 다른 태그
+    }
+
+    @Test
+    void weakTagNeverMatchesIfMatch() {
+        assertThat(ETags.matches("W/\"1.0\"", "\"1.0\"")).isFalse();
+    }
+
+    @Test
+    void leadingMatchIgnoresTrailingParts() {
+        assertThat(ETags.matchesLeading(null, 10L, 4L)).isTrue();
+        assertThat(ETags.matchesLeading("*", 10L, 4L)).isTrue();
+        assertThat(ETags.matchesLeading("\"10.4\"", 10L, 4L)).isTrue();
+        assertThat(ETags.matchesLeading("\"10.4.1.2\"", 10L, 4L)).isTrue();
+        assertThat(ETags.matchesLeading("\"10.3.1.2\", \"10.4.9.9\"", 10L, 4L)).isTrue();
+        assertThat(ETags.matchesLeading("\"10.3.1.2\"", 10L, 4L)).isFalse();
+        assertThat(ETags.matchesLeading("\"10.41.1.2\"", 10L, 4L)).isFalse();    // 버전 41은 다른 값
+        assertThat(ETags.matchesLeading("W/\"10.4.1.2\"", 10L, 4L)).isFalse();
+    }
+
+    @Test
+    void scheduleResponseETagUsesSameParts() {
+        ScheduleResponse response = response(2L);
+
+        assertThat(response.toETag())
+                .isEqualTo(ScheduleResponse.eTagOf(10L, 4L, 1L, 2L))
+                .isEqualTo("\"10.4.1.2\"");
+        // 반복 일정 발생 복사본도 같은 ETag
+        assertThat(response.withPeriod(LocalDateTime.of(2025, 1, 8, 9, 0), LocalDateTime.of(2025, 1, 8, 10, 0))
+                .toETag()).isEqualTo(response.toETag());
+    }
+
+    @Test
+    void commentCountChangesReadETagButNotIfMatch() {
+        // 댓글은 일정 @Version을 올리지 않으므로 조회 ETag는 댓글 수로 달라져야 함
+        assertThat(response(3L).toETag()).isNotEqualTo(response(2L).toETag());
+        // 수정은 일정 버전만 비교 -> 댓글 수가 바뀌기 전 받은 ETag로도 수정 가능
+        assertThat(ETags.matchesLeading(response(2L).toETag(), 10L, 4L)).isTrue();
+        assertThat(ETags.matchesLeading(response(2L).toETag(), 10L, 5L)).isFalse();
+    }
+
+    private static ScheduleResponse response(long commentCount) {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 9, 0);
+        return new ScheduleResponse(
+                1L, "a@example.com", "홍길동", 10L, "회의", "안건",
+                start, start.plusHours(1), start.minusDays(1), start.minusDays(1),
+                null, null, null, commentCount, 4L, 1L);
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.ch3schedulerprojectreview.common.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** JSON Merge Patch (RFC 7386) 병합 규칙과 병합 후 검증
+ * 요청 DTO 대신 테스트용 레코드 사용 (필드 종류별 동작만 확인)
+ */
+class JsonMergePatcherTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static ValidatorFactory validatorFactory;
+    private static JsonMergePatcher patcher;
+
+    record Place(String name, String room) {
+    }
+
+    record Form(
+            @NotBlank(message = "제목은 필수입니다.") String title,
+            @Size(max = 5, message = "내용은 5자 이하입니다.") String content,
+            Integer minutes,
+            List<String> tags,
+            Place place
+    ) {
+    }
+
+    private static final Form CURRENT = new Form("회의", "안건", 10, List.of("a", "b"), new Place("본사", "301"));
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        patcher = new JsonMergePatcher(OBJECT_MAPPER, validatorFactory.getValidator());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void missingFieldsStayAndGivenFieldsReplace() {
+        Form result = patcher.apply(CURRENT, json("{\"title\": \"주간 회의\"}"), Form.class);
+
+        assertThat(result).isEqualTo(new Form("주간 회의", "안건", 10, List.of("a", "b"), new Place("본사", "301")));
+    }
+
+    @Test
+    void nullRemovesValue() {
+        Form result = patcher.apply(CURRENT, json("{\"content\": null, \"minutes\": null}"), Form.class);
+
+        assertThat(result.content()).isNull();
+        assertThat(result.minutes()).isNull();
+        assertThat(result.title()).isEqualTo("회의");
+    }
+
+    @Test
+    void objectsMergeRecursivelyAndArraysAreReplaced() {
+        Form result = patcher.apply(CURRENT, json("{\"place\": {\"room\": \"502\"}, \"tags\": [\"c\"]}"), Form.class);
+
+        assertThat(result.place()).isEqualTo(new Place("본사", "502"));
+        assertThat(result.tags()).containsExactly("c");
+    }
+
+    @Test
+    void emptyPatchKeepsEverything() {
+        assertThat(patcher.apply(CURRENT, json("{}"), Form.class)).isEqualTo(CURRENT);
+    }
+
+    @Test
+    void nonObjectPatchIsBadRequest() {
+        assertThatThrownBy(() -> patcher.apply(CURRENT, json("[{\"title\": \"x\"}]"), Form.class))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> patcher.apply(CURRENT, null, Form.class))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void wrongValueTypeIsBadRequest() {
+        assertThatThrownBy(() -> patcher.apply(CURRENT, json("{\"minutes\": \"soon\"}"), Form.class))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("merge patch 값의 형식이 올바르지 않습니다.");
+    }
+
+    @Test
+    void mergedResultIsValidatedLikePut() {
+        assertThatThrownBy(() -> patcher.apply(CURRENT, json("{\"title\": null}"), Form.class))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("제목은 필수입니다.");
+        // 위반이 여러 개면 필드 이름 순으로 첫 번째 (content < title)
+        assertThatThrownBy(() -> patcher.apply(CURRENT, json("{\"title\": \" \", \"content\": \"123456\"}"), Form.class))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("내용은 5자 이하입니다.");
+    }
+
+    private static JsonNode json(String value) {
+        try {
+            return OBJECT_MAPPER.readTree(value);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.ch3schedulerprojectreview.schedule.dto;
+
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 커서 토큰(ScheduleCursor) 인코딩/디코딩
+ * 토큰은 URL에 그대로 넣으므로 URL-safe 문자만, 디코딩 실패는 모두 400
+ */
+class ScheduleCursorTest {
+
+    @Test
+    void roundTripKeepsSortKey() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 4, 5, 6, 7, 123_456_000);
+
+        ScheduleCursor decoded = ScheduleCursor.decode(new ScheduleCursor(createdAt, 42L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getScheduleId()).isEqualTo(42L);
+    }
+
+    @Test
+    void roundTripWithoutSecondsAndNanos() {
+        // LocalDateTime.toString()은 0초/0나노를 생략함 ("2025-01-01T00:00")
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        ScheduleCursor decoded = ScheduleCursor.decode(new ScheduleCursor(createdAt, Long.MAX_VALUE).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getScheduleId()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void tokenIsUrlSafeWithoutPadding() {
+        String token = new ScheduleCursor(LocalDateTime.of(2025, 12, 31, 23, 59, 59, 999_999_000), 1L).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void invalidTokensAreBadRequest() {
+        assertThatThrownBy(() -> ScheduleCursor.decode("not base64!"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ScheduleCursor.decode(encodeRaw("2025-01-01T00:00")))    // 구분자 없음
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ScheduleCursor.decode(encodeRaw("yesterday_1")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> ScheduleCursor.decode(encodeRaw("2025-01-01T00:00_abc")))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
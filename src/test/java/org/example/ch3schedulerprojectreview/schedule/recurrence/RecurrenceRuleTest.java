@@ -0,0 +1,187 @@
+package org.example.ch3schedulerprojectreview.schedule.recurrence;
+
+import org.example.ch3schedulerprojectreview.common.exception.custom.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 반복 규칙(RecurrenceRule) 파싱, 발생 계산
+ * 구간 앞을 주기 수 계산으로 건너뛰는 결과가 처음부터 하나씩 센 결과와 같은지도 확인
+ */
+class RecurrenceRuleTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);    // 수요일
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Test
+    void dailyStopsAtCount() {
+        List<LocalDateTime> starts = RecurrenceRule.parse("FREQ=DAILY;COUNT=3")
+                .occurrences(START, HOUR, Set.of(), START.minusDays(10), START.plusDays(10));
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2025, 1, 1, 9, 0),
+                LocalDateTime.of(2025, 1, 2, 9, 0),
+                LocalDateTime.of(2025, 1, 3, 9, 0));
+    }
+
+    @Test
+    void weeklyByDayStartsFromSeriesStart() {
+        List<LocalDateTime> starts = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,WE,FR")
+                .occurrences(START, HOUR, Set.of(), START, LocalDateTime.of(2025, 1, 9, 0, 0));
+
+        // 첫 주 월요일(12/30)은 시리즈 시작 전이라 제외
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2025, 1, 1, 9, 0),
+                LocalDateTime.of(2025, 1, 3, 9, 0),
+                LocalDateTime.of(2025, 1, 6, 9, 0),
+                LocalDateTime.of(2025, 1, 8, 9, 0));
+    }
+
+    @Test
+    void includesOccurrenceThatStartedBeforeWindow() {
+        // 1/3 09:00~11:00 발생은 구간 시작(10:00)보다 먼저 시작했지만 겹침
+        List<LocalDateTime> starts = RecurrenceRule.parse("FREQ=DAILY")
+                .occurrences(START, Duration.ofHours(2), Set.of(),
+                        LocalDateTime.of(2025, 1, 3, 10, 0), LocalDateTime.of(2025, 1, 4, 10, 0));
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2025, 1, 3, 9, 0),
+                LocalDateTime.of(2025, 1, 4, 9, 0));
+    }
+
+    @Test
+    void monthlySkipsMissingDays() {
+        LocalDateTime lastDay = LocalDateTime.of(2025, 1, 31, 9, 0);
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;COUNT=4");
+
+        assertThat(rule.occurrences(lastDay, HOUR, Set.of(), lastDay, lastDay.plusYears(2))).containsExactly(
+                LocalDateTime.of(2025, 1, 31, 9, 0),
+                LocalDateTime.of(2025, 3, 31, 9, 0),
+                LocalDateTime.of(2025, 5, 31, 9, 0),
+                LocalDateTime.of(2025, 7, 31, 9, 0));
+        assertThat(rule.lastOccurrenceStart(lastDay)).isEqualTo(LocalDateTime.of(2025, 7, 31, 9, 0));
+    }
+
+    @Test
+    void yearlyOnLeapDayOnlyInLeapYears() {
+        LocalDateTime leapDay = LocalDateTime.of(2024, 2, 29, 9, 0);
+
+        List<LocalDateTime> starts = RecurrenceRule.parse("FREQ=YEARLY")
+                .occurrences(leapDay, HOUR, Set.of(), leapDay, LocalDateTime.of(2033, 1, 1, 0, 0));
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2024, 2, 29, 9, 0),
+                LocalDateTime.of(2028, 2, 29, 9, 0),
+                LocalDateTime.of(2032, 2, 29, 9, 0));
+    }
+
+    @Test
+    void exceptionDatesAreSkippedButCounted() {
+        List<LocalDateTime> starts = RecurrenceRule.parse("FREQ=DAILY;COUNT=4")
+                .occurrences(START, HOUR, Set.of(LocalDate.of(2025, 1, 2)), START, START.plusDays(30));
+
+        assertThat(starts).containsExactly(
+                LocalDateTime.of(2025, 1, 1, 9, 0),
+                LocalDateTime.of(2025, 1, 3, 9, 0),
+                LocalDateTime.of(2025, 1, 4, 9, 0));
+    }
+
+    @Test
+    void dateOnlyUntilIncludesThatDay() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250103");
+
+        assertThat(rule.getUntil()).isEqualTo(LocalDateTime.of(2025, 1, 3, 23, 59, 59));
+        assertThat(rule.occurrences(START, HOUR, Set.of(), START, START.plusDays(30))).containsExactly(
+                LocalDateTime.of(2025, 1, 1, 9, 0),
+                LocalDateTime.of(2025, 1, 2, 9, 0),
+                LocalDateTime.of(2025, 1, 3, 9, 0));
+    }
+
+    @Test
+    void utcUntilIsConvertedToServerTime() {
+        RecurrenceRule local = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250103T090000");
+        RecurrenceRule utc = RecurrenceRule.parse("FREQ=DAILY;UNTIL=20250103T090000Z");
+
+        assertThat(local.getUntil()).isEqualTo(LocalDateTime.of(2025, 1, 3, 9, 0));
+        assertThat(utc.getUntil()).isEqualTo(LocalDateTime.of(2025, 1, 3, 9, 0)
+                .atOffset(ZoneOffset.UTC).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+        assertThat(RecurrenceRule.parse("freq=daily;until=20250103t090000z").getUntil()).isEqualTo(utc.getUntil());
+    }
+
+    @Test
+    void parseNormalizesCaseAndSortsDays() {
+        RecurrenceRule rule = RecurrenceRule.parse("freq=weekly;byday=fr,mo");
+
+        assertThat(rule.getValue()).isEqualTo("FREQ=WEEKLY;BYDAY=FR,MO");
+        assertThat(rule.getFrequency()).isEqualTo(RecurrenceRule.Frequency.WEEKLY);
+        assertThat(rule.getByDay()).containsExactly(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        assertThat(RecurrenceRule.parse(null)).isNull();
+        assertThat(RecurrenceRule.parse(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "FREQ=HOURLY",
+            "FREQ",
+            "COUNT=3",
+            "FREQ=DAILY;INTERVAL=0",
+            "FREQ=DAILY;COUNT=1001",
+            "FREQ=DAILY;COUNT=1;UNTIL=20250101",
+            "FREQ=DAILY;BYDAY=MO",
+            "FREQ=WEEKLY;BYDAY=XX",
+            "FREQ=DAILY;UNTIL=tomorrow",
+            "FREQ=DAILY;UNTIL=2025Z0103T090000",
+            "FREQ=DAILY;UNTIL=20250103Z"
+    })
+    void invalidRulesAreBadRequest(String rule) {
+        assertThatThrownBy(() -> RecurrenceRule.parse(rule)).isInstanceOf(BadRequestException.class);
+    }
+
+    // 구간 앞을 건너뛴 계산 = 시리즈 전체를 펼친 뒤 구간으로 거른 결과
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "FREQ=DAILY;INTERVAL=3",
+            "FREQ=DAILY;INTERVAL=5;COUNT=300",
+            "FREQ=WEEKLY;INTERVAL=3",
+            "FREQ=WEEKLY;INTERVAL=2;BYDAY=TU,SA",
+            "FREQ=WEEKLY;BYDAY=MO,WE,FR;COUNT=200",
+            "FREQ=MONTHLY;INTERVAL=2"
+    })
+    void skippingAheadMatchesFullExpansion(String value) {
+        RecurrenceRule rule = RecurrenceRule.parse(value);
+        Random random = new Random(value.hashCode());    // 규칙마다 고정된 입력
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime seriesStart = LocalDateTime.of(2020, 1, 1, 8, 0)
+                    .plusDays(random.nextInt(400)).plusHours(random.nextInt(24));
+            Duration duration = Duration.ofMinutes(30 + random.nextInt(3000));
+            LocalDateTime from = seriesStart.plusDays(random.nextInt(2000)).plusHours(random.nextInt(24));
+            LocalDateTime to = from.plusDays(1 + random.nextInt(40));
+
+            List<LocalDateTime> expected = new ArrayList<>();
+            for (LocalDateTime start : rule.occurrences(
+                    seriesStart, duration, Set.of(), seriesStart, LocalDateTime.of(2040, 1, 1, 0, 0))) {
+                if (start.isBefore(to) && start.plus(duration).isAfter(from)) {
+                    expected.add(start);
+                }
+            }
+
+            assertThat(rule.occurrences(seriesStart, duration, Set.of(), from, to))
+                    .as("%s, start=%s, window=[%s, %s)", value, seriesStart, from, to)
+                    .containsExactlyElementsOf(expected);
+        }
+    }
+}
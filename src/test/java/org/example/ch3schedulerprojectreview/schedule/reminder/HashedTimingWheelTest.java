@@ -0,0 +1,109 @@
+package org.example.ch3schedulerprojectreview.schedule.reminder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** 해시 타이밍 휠: 마감 전에는 호출하지 않음, 여러 바퀴 뒤 마감, 지난 마감, 취소
+ * tick 10ms, 칸 8개(한 바퀴 80ms) -> 80ms보다 먼 마감은 바퀴 수로 기다림
+ * 실제 시간으로 돌리므로 "늦게 호출"은 넉넉한 상한(1초)으로만 확인
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private final BlockingQueue<Fired> fired = new LinkedBlockingQueue<>();
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(
+            TICK_MILLIS, WHEEL_SIZE, task -> fired.add(new Fired(task, System.currentTimeMillis())));
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(0, 8, task -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(10, 6, task -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void firesInDeadlineOrderAndNeverEarly() throws InterruptedException {
+        wheel.start("wheel-test");
+        long now = System.currentTimeMillis();
+        long[] delays = {250, 30, 170, 60};    // 170, 250ms = 두세 바퀴 뒤
+        List<Long> deadlines = new ArrayList<>();
+        for (long delay : delays) {
+            deadlines.add(now + delay);
+            wheel.schedule("t" + delay, now + delay);
+        }
+        assertThat(wheel.size()).isEqualTo(delays.length);
+
+        List<Fired> result = new ArrayList<>();
+        for (int i = 0; i < delays.length; i++) {
+            Fired next = fired.poll(2, TimeUnit.SECONDS);
+            assertThat(next).as("%d번째 만료", i).isNotNull();
+            result.add(next);
+        }
+
+        assertThat(result).extracting(Fired::task).containsExactly("t30", "t60", "t170", "t250");
+        for (Fired each : result) {
+            long deadline = now + Long.parseLong(each.task().substring(1));
+            assertThat(each.atMillis()).isGreaterThanOrEqualTo(deadline).isLessThan(deadline + 1_000);
+        }
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() throws InterruptedException {
+        wheel.start("wheel-test");
+
+        wheel.schedule("late", System.currentTimeMillis() - 60_000);
+
+        Fired next = fired.poll(2, TimeUnit.SECONDS);
+        assertThat(next).isNotNull();
+        assertThat(next.task()).isEqualTo("late");
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() throws InterruptedException {
+        wheel.start("wheel-test");
+        long now = System.currentTimeMillis();
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", now + 50);
+        wheel.schedule("kept", now + 100);
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(cancelled.cancel()).isFalse();    // 두 번째 취소는 실패
+        assertThat(cancelled.isPending()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        Fired next = fired.poll(2, TimeUnit.SECONDS);
+        assertThat(next).isNotNull();
+        assertThat(next.task()).isEqualTo("kept");
+        assertThat(fired.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void expiredTimeoutCannotBeCancelled() throws InterruptedException {
+        wheel.start("wheel-test");
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("once", System.currentTimeMillis() + 20);
+
+        assertThat(fired.poll(2, TimeUnit.SECONDS)).isNotNull();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    private record Fired(String task, long atMillis) {
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.ch3schedulerprojectreview.schedule.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.ch3schedulerprojectreview.schedule.event.ScheduleChangedEvent;
+import org.example.ch3schedulerprojectreview.schedule.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/** 일정 검색 역색인: 순위, AND 검색, 한 글자 한글 확장, 증분 반영
+ * DB 대신 ScheduleRepository를 목으로 (색인 적재에 쓰는 프로젝션만 돌려줌)
+ */
+class ScheduleSearchIndexTest {
+
+    private static final Long USER = 1L;
+    private static final Long OTHER_USER = 2L;
+
+    private ScheduleRepository scheduleRepository;
+    private ScheduleSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.streamAllSearchDocuments()).thenReturn(Stream.of(
+                new ScheduleSearchDocument(10L, USER, "주간 회의", "안건 정리"),
+                new ScheduleSearchDocument(11L, USER, "점심", "회의 준비"),
+                new ScheduleSearchDocument(12L, USER, "Release", "v2 배포"),
+                new ScheduleSearchDocument(20L, OTHER_USER, "회의", "")));
+        index = new ScheduleSearchIndex(
+                scheduleRepository, mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), false);
+        index.rebuild();
+    }
+
+    @Test
+    void titleMatchRanksAboveContentMatch() {
+        assertThat(index.search(USER, "회의")).containsExactly(10L, 11L);
+    }
+
+    @Test
+    void everyQueryTermMustMatch() {
+        assertThat(index.search(USER, "회의 점심")).containsExactly(11L);
+        assertThat(index.search(USER, "회의 release")).isEmpty();
+    }
+
+    @Test
+    void singleHangulMatchesBigramsStartingWithIt() {
+        assertThat(index.search(USER, "회")).containsExactly(10L, 11L);
+        assertThat(index.search(USER, "배")).containsExactly(12L);
+    }
+
+    @Test
+    void searchIsCaseInsensitiveAndPerUser() {
+        assertThat(index.search(USER, "RELEASE")).containsExactly(12L);
+        assertThat(index.search(OTHER_USER, "회의")).containsExactly(20L);
+        assertThat(index.search(3L, "회의")).isEmpty();
+    }
+
+    @Test
+    void changesAreAppliedIncrementally() {
+        when(scheduleRepository.findSearchDocuments(anyCollection()))
+                .thenReturn(List.of(new ScheduleSearchDocument(13L, USER, "회의록 작성", "")));
+        index.onScheduleChanged(new ScheduleChangedEvent(USER, 13L, ScheduleChangedEvent.Type.CREATED));
+        assertThat(index.search(USER, "회의록")).containsExactly(13L);
+
+        // 수정 후 다시 읽었을 때 결과에 없음(그 사이 삭제됨) -> 색인에서 제거
+        when(scheduleRepository.findSearchDocuments(anyCollection())).thenReturn(List.of());
+        index.onScheduleChanged(new ScheduleChangedEvent(USER, 13L, ScheduleChangedEvent.Type.UPDATED));
+        assertThat(index.search(USER, "회의록")).isEmpty();
+
+        index.onScheduleChanged(new ScheduleChangedEvent(USER, 10L, ScheduleChangedEvent.Type.DELETED));
+        assertThat(index.search(USER, "회의")).containsExactly(11L);
+
+        index.onScheduleChanged(new ScheduleChangedEvent(USER, (Long) null, ScheduleChangedEvent.Type.USER_WITHDRAWN));
+        assertThat(index.search(USER, "점심")).isEmpty();
+        assertThat(index.search(OTHER_USER, "회의")).containsExactly(20L);
+    }
+
+    @Test
+    void queryWithoutTerms() {
+        assertThat(ScheduleSearchIndex.hasTerms("!! ??")).isFalse();
+        assertThat(ScheduleSearchIndex.hasTerms("회")).isTrue();
+    }
+}
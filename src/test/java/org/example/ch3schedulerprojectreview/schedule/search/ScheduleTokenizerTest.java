@@ -0,0 +1,48 @@
+package org.example.ch3schedulerprojectreview.schedule.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/** 검색 토크나이저: 영문/숫자는 단어, 한글은 2글자 bigram */
+class ScheduleTokenizerTest {
+
+    @Test
+    void hangulIsSplitIntoOverlappingBigrams() {
+        assertThat(ScheduleTokenizer.termFrequencies("주간회의록").keySet())
+                .containsExactly("주간", "간회", "회의", "의록");
+    }
+
+    @Test
+    void wordsAreLowercasedAndSplitOnSymbols() {
+        assertThat(ScheduleTokenizer.termFrequencies("Weekly SYNC-2025 회의를").keySet())
+                .containsExactly("weekly", "sync", "2025", "회의", "의를");
+    }
+
+    @Test
+    void hangulAndLatinWithoutSpaceAreSeparateTokens() {
+        assertThat(ScheduleTokenizer.termFrequencies("abc회의").keySet()).containsExactly("abc", "회의");
+    }
+
+    @Test
+    void countsRepeatedTerms() {
+        assertThat(ScheduleTokenizer.termFrequencies("a b a 회의 회의"))
+                .containsExactly(entry("a", 2), entry("b", 1), entry("회의", 2));    // 처음 나온 순서
+    }
+
+    @Test
+    void singleHangulStaysOneToken() {
+        assertThat(ScheduleTokenizer.termFrequencies("회").keySet()).containsExactly("회");
+        assertThat(ScheduleTokenizer.isSingleHangul("회")).isTrue();
+        assertThat(ScheduleTokenizer.isSingleHangul("회의")).isFalse();
+        assertThat(ScheduleTokenizer.isSingleHangul("a")).isFalse();
+    }
+
+    @Test
+    void emptyOrSymbolsOnlyHaveNoTerms() {
+        assertThat(ScheduleTokenizer.termFrequencies(null)).isEmpty();
+        assertThat(ScheduleTokenizer.termFrequencies("")).isEmpty();
+        assertThat(ScheduleTokenizer.termFrequencies("!! -- ??")).isEmpty();
+    }
+}